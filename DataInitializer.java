@@ -6,10 +6,18 @@ import com.inventory.repository.UserRepository;
 import com.inventory.repository.ItemRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
+// Runs before PerfDataInitializer, whose rows would otherwise make the empty-table checks skip seeding.
+// Fast-startup instances load an H2 snapshot instead; the snapshot profile is what seeds it.
 @Component
+@Profile("!fast-startup | snapshot")
+@Order(1)
 public class DataInitializer implements CommandLineRunner {
     
     @Autowired
@@ -47,11 +55,13 @@ public class DataInitializer implements CommandLineRunner {
         
         // Create default items
         if (itemRepository.count() == 0) {
-            itemRepository.save(new Item("Mouse", "Wireless optical mouse", 25));
-            itemRepository.save(new Item("Keyboard", "Mechanical keyboard", 15));
-            itemRepository.save(new Item("PC", "Desktop computer", 10));
-            itemRepository.save(new Item("Monitor", "24-inch LED monitor", 20));
-            itemRepository.save(new Item("Headphones", "Noise-cancelling headphones", 12));
+            itemRepository.saveAll(List.of(
+                new Item("Mouse", "Wireless optical mouse", 25),
+                new Item("Keyboard", "Mechanical keyboard", 15),
+                new Item("PC", "Desktop computer", 10),
+                new Item("Monitor", "24-inch LED monitor", 20),
+                new Item("Headphones", "Noise-cancelling headphones", 12)
+            ));
         }
     }
 }
\ No newline at end of file
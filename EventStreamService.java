@@ -0,0 +1,211 @@
+package com.inventory.service;
+
+import com.inventory.dto.ItemDTO;
+import com.inventory.dto.RequestDTO;
+import com.inventory.dto.StockForecastDTO;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class EventStreamService {
+
+    private static final int REPLAY_BUFFER_SIZE = 1000;
+    // Room for a full replay plus some live events; a subscriber that falls further behind is dropped
+    private static final int SUBSCRIBER_QUEUE_CAPACITY = REPLAY_BUFFER_SIZE + 256;
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000; // 30 minutes
+
+    // Event ids are "<boot epoch>-<sequence>", so an id from before a restart is recognised as foreign
+    private final String bootEpoch = Long.toString(System.currentTimeMillis(), 36);
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Deque<ChangeEvent> replayBuffer = new ArrayDeque<>(REPLAY_BUFFER_SIZE);
+    // Each subscriber drains its own queue on a virtual thread, so a client blocked in a socket write
+    // only ever holds up itself
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private long nextSequence = 1;
+
+    // userId == null subscribes to every request; otherwise only that user's requests are delivered.
+    // A Last-Event-ID from another boot, or older than the replay buffer, gets a "reset" instead of a replay.
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        Subscriber subscriber = new Subscriber(emitter, userId);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        synchronized (replayBuffer) {
+            Long lastSequence = parseSequence(lastEventId);
+            boolean gap = lastEventId != null && lastSequence == null;
+            List<ChangeEvent> missed = new ArrayList<>();
+            if (lastSequence != null) {
+                ChangeEvent oldest = replayBuffer.peekFirst();
+                gap = oldest != null && oldest.sequence > lastSequence + 1;
+                for (ChangeEvent event : replayBuffer) {
+                    if (event.sequence > lastSequence) {
+                        missed.add(event);
+                    }
+                }
+            }
+            // Queued under the lock so the replay is always ahead of any live event
+            subscriber.enqueue(SseEmitter.event().name(gap ? "reset" : "ready").data(Map.of()));
+            if (!gap) {
+                missed.forEach(subscriber::deliver);
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    public void publishRequest(RequestDTO request) {
+        publish("request", request.getUserId(), request);
+    }
+
+    public void publishItem(ItemDTO item) {
+        publish("item", null, item);
+    }
+
+    public void publishItemDeleted(Long itemId) {
+        publish("item-deleted", null, Map.of("id", itemId));
+    }
+
+    public void publishStockAlert(StockForecastDTO forecast) {
+        publish("low-stock", null, forecast);
+    }
+
+    public void publishStockRecovered(Long itemId) {
+        publish("stock-recovered", null, Map.of("id", itemId));
+    }
+
+    @Scheduled(fixedRate = 15000)
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.enqueue(SseEmitter.event().comment("heartbeat")));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    // Events raised inside a transaction are only emitted once it commits
+    private void publish(String type, Long ownerId, Object data) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append(type, ownerId, data);
+                }
+            });
+        } else {
+            append(type, ownerId, data);
+        }
+    }
+
+    // Fan-out only offers to bounded queues, so it is cheap enough to do under the lock that orders ids
+    private void append(String type, Long ownerId, Object data) {
+        synchronized (replayBuffer) {
+            ChangeEvent event = new ChangeEvent(nextSequence++, type, ownerId, data);
+            if (replayBuffer.size() == REPLAY_BUFFER_SIZE) {
+                replayBuffer.removeFirst();
+            }
+            replayBuffer.addLast(event);
+            subscribers.forEach(subscriber -> subscriber.deliver(event));
+        }
+    }
+
+    private Long parseSequence(String eventId) {
+        if (eventId == null || !eventId.startsWith(bootEpoch + "-")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId.substring(bootEpoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static class ChangeEvent {
+        private final long sequence;
+        private final String type;
+        private final Long ownerId;
+        private final Object data;
+
+        ChangeEvent(long sequence, String type, Long ownerId, Object data) {
+            this.sequence = sequence;
+            this.type = type;
+            this.ownerId = ownerId;
+            this.data = data;
+        }
+    }
+
+    private class Subscriber {
+        private final SseEmitter emitter;
+        private final Long userId;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> pending = new ArrayBlockingQueue<>(SUBSCRIBER_QUEUE_CAPACITY);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, Long userId) {
+            this.emitter = emitter;
+            this.userId = userId;
+        }
+
+        void deliver(ChangeEvent event) {
+            if (userId == null || event.ownerId == null || userId.equals(event.ownerId)) {
+                enqueue(SseEmitter.event().id(bootEpoch + "-" + event.sequence).name(event.type).data(event.data));
+            }
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (!pending.offer(event)) {
+                // Fell behind; the client reconnects with Last-Event-ID and replays or resets
+                close(new IllegalStateException("Subscriber queue overflow"));
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        // At most one drain per subscriber at a time, which also keeps SseEmitter.send single-threaded
+        private void drain() {
+            do {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = pending.poll()) != null) {
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        close(e);
+                    }
+                }
+                draining.set(false);
+            } while (!closed && !pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private void close(Exception cause) {
+            closed = true;
+            subscribers.remove(this);
+            pending.clear();
+            emitter.completeWithError(cause);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.inventory.service;
+
+import com.inventory.model.User;
+import com.inventory.model.UserGroupMember;
+import com.inventory.model.UserGroupRule;
+import com.inventory.repository.UserGroupMemberRepository;
+import com.inventory.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+@Service
+public class GroupRuleScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupRuleScheduler.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserGroupMemberRepository memberRepository;
+
+    @Autowired
+    private RuleEngine ruleEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${group-rules.schedule.chunk-size:1000}")
+    private int chunkSize;
+
+    private final ForkJoinPool evaluationPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean cancelRequested = new AtomicBoolean();
+
+    // Incremental state: users untouched since the last completed run are skipped unless the rules changed
+    private volatile LocalDateTime lastCompletedRunStart;
+    private volatile List<CompiledRule> rulesAtLastRun;
+    private volatile Map<String, Object> lastRunStats = Map.of("status", "NEVER_RUN");
+
+    @Scheduled(fixedDelayString = "${group-rules.schedule.interval-ms:3600000}",
+               initialDelayString = "${group-rules.schedule.initial-delay-ms:0}")
+    public void scheduledRun() {
+        run();
+    }
+
+    // Returns false when a run is already in progress
+    public boolean run() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        cancelRequested.set(false);
+        try {
+            reclassify();
+        } finally {
+            running.set(false);
+        }
+        return true;
+    }
+
+    // Manual runs go to the application task executor (virtual threads when enabled)
+    @Async
+    public void runAsync() {
+        run();
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public void cancel() {
+        cancelRequested.set(true);
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>(lastRunStats);
+        status.put("running", running.get());
+        return status;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        cancel();
+        evaluationPool.shutdownNow();
+    }
+
+    private void reclassify() {
+        List<CompiledRule> allRules = ruleEngine.getRules();
+        List<CompiledRule> scheduledRules = allRules.stream()
+                .filter(rule -> rule.getTriggerType() == UserGroupRule.TriggerType.SCHEDULED)
+                .collect(Collectors.toList());
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime modifiedSince = allRules == rulesAtLastRun ? lastCompletedRunStart : null;
+        long startNanos = System.nanoTime();
+        long usersScanned = 0;
+        long added = 0;
+        long removed = 0;
+        String outcome = "COMPLETED";
+
+        try {
+            if (!scheduledRules.isEmpty()) {
+                long afterId = 0;
+                while (true) {
+                    if (cancelRequested.get()) {
+                        outcome = "CANCELLED";
+                        break;
+                    }
+                    List<User> users = userRepository.findChunk(afterId, modifiedSince, PageRequest.of(0, chunkSize));
+                    if (users.isEmpty()) {
+                        break;
+                    }
+                    afterId = users.get(users.size() - 1).getId();
+                    usersScanned += users.size();
+
+                    Map<Long, Set<Long>> current = currentMemberships(users);
+                    List<MembershipChange> changes = evaluationPool.submit(() -> users.parallelStream()
+                            .flatMap(user -> evaluate(user, scheduledRules,
+                                    current.getOrDefault(user.getId(), Set.of())).stream())
+                            .collect(Collectors.toList())).get();
+
+                    int[] counts = write(changes);
+                    added += counts[0];
+                    removed += counts[1];
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "CANCELLED";
+        } catch (ExecutionException | RuntimeException e) {
+            log.error("Scheduled group reclassification failed", e);
+            outcome = "FAILED";
+        }
+
+        long durationMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        if ("COMPLETED".equals(outcome)) {
+            lastCompletedRunStart = startedAt;
+            rulesAtLastRun = allRules;
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("status", outcome);
+        stats.put("startedAt", startedAt.toString());
+        stats.put("incremental", modifiedSince != null);
+        stats.put("scheduledRules", scheduledRules.size());
+        stats.put("usersScanned", usersScanned);
+        stats.put("membershipsAdded", added);
+        stats.put("membershipsRemoved", removed);
+        stats.put("durationMillis", durationMillis);
+        stats.put("usersPerSecond", durationMillis == 0 ? usersScanned : usersScanned * 1000 / durationMillis);
+        lastRunStats = stats;
+        log.info("Group reclassification {}: {}", outcome, stats);
+    }
+
+    private Map<Long, Set<Long>> currentMemberships(List<User> users) {
+        List<Long> userIds = users.stream().map(User::getId).collect(Collectors.toList());
+        Map<Long, Set<Long>> memberships = new HashMap<>();
+        for (UserGroupMember member : memberRepository.findByUserIdIn(userIds)) {
+            memberships.computeIfAbsent(member.getUserId(), id -> new HashSet<>()).add(member.getGroupId());
+        }
+        return memberships;
+    }
+
+    // Rules apply in rule_order: CLASSIFICATION sets membership to the match result,
+    // ACTIVATION only adds and DEACTIVATION only removes
+    private List<MembershipChange> evaluate(User user, List<CompiledRule> rules, Set<Long> currentGroups) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", user.getId());
+        values.put("username", user.getUsername());
+        values.put("name", user.getName());
+        values.put("role", user.getRole());
+        RowChange row = new RowChange("users", user.getId(), values, null);
+
+        Set<Long> groups = new HashSet<>(currentGroups);
+        for (CompiledRule rule : rules) {
+            boolean matches = rule.matches(row);
+            switch (rule.getRuleType()) {
+                case CLASSIFICATION:
+                    if (matches) {
+                        groups.add(rule.getGroupId());
+                    } else {
+                        groups.remove(rule.getGroupId());
+                    }
+                    break;
+                case ACTIVATION:
+                    if (matches) {
+                        groups.add(rule.getGroupId());
+                    }
+                    break;
+                case DEACTIVATION:
+                    if (matches) {
+                        groups.remove(rule.getGroupId());
+                    }
+                    break;
+            }
+        }
+
+        List<MembershipChange> changes = new ArrayList<>();
+        groups.stream().filter(group -> !currentGroups.contains(group))
+                .forEach(group -> changes.add(new MembershipChange(user.getId(), group, true)));
+        currentGroups.stream().filter(group -> !groups.contains(group))
+                .forEach(group -> changes.add(new MembershipChange(user.getId(), group, false)));
+        return changes;
+    }
+
+    // One transaction per chunk with JDBC batches for inserts and deletes
+    private int[] write(List<MembershipChange> changes) {
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (MembershipChange change : changes) {
+            if (change.add) {
+                inserts.add(new Object[] {change.userId, change.groupId, now});
+            } else {
+                deletes.add(new Object[] {change.userId, change.groupId});
+            }
+        }
+        if (!inserts.isEmpty() || !deletes.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!deletes.isEmpty()) {
+                    jdbcTemplate.batchUpdate("DELETE FROM user_group_members WHERE user_id = ? AND group_id = ?", deletes);
+                }
+                if (!inserts.isEmpty()) {
+                    jdbcTemplate.batchUpdate(
+                            "INSERT INTO user_group_members (user_id, group_id, assigned_date) VALUES (?, ?, ?)", inserts);
+                }
+            });
+        }
+        return new int[] {inserts.size(), deletes.size()};
+    }
+
+    private static class MembershipChange {
+        private final Long userId;
+        private final Long groupId;
+        private final boolean add;
+
+        MembershipChange(Long userId, Long groupId, boolean add) {
+            this.userId = userId;
+            this.groupId = groupId;
+            this.add = add;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.inventory.service;
+
+import com.inventory.repository.ItemRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// Trigram postings for substring matches plus a sorted word map for short prefixes; candidates
+// from the postings are verified against the indexed text, so a stale posting can never leak a miss
+@Component
+public class ItemSearchIndex {
+
+    private static final int GRAM = 3;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private final Map<Long, IndexedItem> items = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> trigrams = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<Long>> words = new ConcurrentSkipListMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        items.clear();
+        trigrams.clear();
+        words.clear();
+        itemRepository.findAll().forEach(item -> index(item.getId(), item.getName(), item.getDescription()));
+    }
+
+    public void index(Long id, String name, String description) {
+        remove(id);
+        IndexedItem item = new IndexedItem(id, normalize(name), normalize(description));
+        items.put(id, item);
+        for (String gram : grams(item.text)) {
+            trigrams.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+        for (String word : item.text.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.computeIfAbsent(word, key -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+    }
+
+    public void remove(Long id) {
+        IndexedItem item = items.remove(id);
+        if (item == null) {
+            return;
+        }
+        for (String gram : grams(item.text)) {
+            Set<Long> postings = trigrams.get(gram);
+            if (postings != null) {
+                postings.remove(id);
+            }
+        }
+        for (String word : item.text.split("\\s+")) {
+            Set<Long> postings = words.get(word);
+            if (postings != null) {
+                postings.remove(id);
+            }
+        }
+    }
+
+    // Every query term must appear in the name or description; name-prefix hits rank first
+    public List<Long> search(String query, int limit) {
+        String[] terms = normalize(query).split("\\s+");
+        Set<Long> candidates = null;
+        for (String term : terms) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            Set<Long> matches = term.length() < GRAM ? prefixMatches(term) : trigramMatches(term);
+            if (candidates == null) {
+                candidates = matches;
+            } else {
+                candidates.retainAll(matches);
+            }
+            if (candidates.isEmpty()) {
+                return List.of();
+            }
+        }
+        if (candidates == null) {
+            return List.of();
+        }
+
+        PriorityQueue<ScoredItem> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Long id : candidates) {
+            IndexedItem item = items.get(id);
+            if (item == null || !containsAll(item, terms)) {
+                continue;
+            }
+            top.add(new ScoredItem(item, score(item, terms)));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<ScoredItem> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING);
+        List<Long> ids = new ArrayList<>(ranked.size());
+        ranked.forEach(scored -> ids.add(scored.item.id));
+        return ids;
+    }
+
+    private Set<Long> prefixMatches(String prefix) {
+        Set<Long> matches = new HashSet<>();
+        words.subMap(prefix, prefix + Character.MAX_VALUE).values().forEach(matches::addAll);
+        return matches;
+    }
+
+    // Intersects posting lists smallest first so the common trigrams are never scanned in full
+    private Set<Long> trigramMatches(String term) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(term)) {
+            Set<Long> postings = trigrams.get(gram);
+            if (postings == null) {
+                return new HashSet<>();
+            }
+            lists.add(postings);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> matches = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !matches.isEmpty(); i++) {
+            matches.retainAll(lists.get(i));
+        }
+        return matches;
+    }
+
+    private static boolean containsAll(IndexedItem item, String[] terms) {
+        for (String term : terms) {
+            if (!term.isEmpty() && !item.text.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int score(IndexedItem item, String[] terms) {
+        int score = 0;
+        for (String term : terms) {
+            if (item.name.startsWith(term)) {
+                score += 3;
+            } else if (item.name.contains(term)) {
+                score += 2;
+            } else {
+                score += 1;
+            }
+        }
+        return score;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT).trim();
+    }
+
+    private static final Comparator<ScoredItem> RANKING = Comparator.<ScoredItem>comparingInt(scored -> -scored.score)
+            .thenComparingInt(scored -> scored.item.name.length())
+            .thenComparing(scored -> scored.item.id);
+
+    private static class IndexedItem {
+        private final Long id;
+        private final String name;
+        private final String text;
+
+        IndexedItem(Long id, String name, String description) {
+            this.id = id;
+            this.name = name;
+            this.text = description.isEmpty() ? name : name + " " + description;
+        }
+    }
+
+    private static class ScoredItem {
+        private final IndexedItem item;
+        private final int score;
+
+        ScoredItem(IndexedItem item, int score) {
+            this.item = item;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.inventory.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class LoginThrottle {
+
+    private static final int MAX_TRACKED_USERNAMES = 100_000;
+
+    @Value("${auth.login.max-failures:5}")
+    private int maxFailures;
+
+    @Value("${auth.login.lockout-seconds:60}")
+    private long lockoutSeconds;
+
+    private final Map<String, Attempts> attempts = new ConcurrentHashMap<>();
+
+    // Seconds the caller must wait before another attempt, or 0 if a hash may be computed now
+    public long retryAfterSeconds(String username) {
+        Attempts current = attempts.get(username);
+        if (current == null) {
+            return 0;
+        }
+        long remainingMillis = current.lockedUntil - System.currentTimeMillis();
+        return remainingMillis > 0 ? (remainingMillis + 999) / 1000 : 0;
+    }
+
+    public void recordFailure(String username) {
+        if (attempts.size() >= MAX_TRACKED_USERNAMES) {
+            long now = System.currentTimeMillis();
+            attempts.values().removeIf(entry -> entry.lockedUntil < now);
+        }
+        attempts.compute(username, (key, current) -> {
+            Attempts next = current == null ? new Attempts() : current;
+            next.failures++;
+            if (next.failures >= maxFailures) {
+                next.lockedUntil = System.currentTimeMillis() + lockoutSeconds * 1000;
+                next.failures = 0;
+            }
+            return next;
+        });
+    }
+
+    public void recordSuccess(String username) {
+        attempts.remove(username);
+    }
+
+    private static class Attempts {
+        private int failures;
+        private long lockedUntil;
+    }
+}
@@ -0,0 +1,39 @@
+package com.inventory.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Configuration
+public class MetricsConfig {
+
+    // URI templates as they appear in the uri tag, e.g. /api/items/{id}
+    @Value("${metrics.histogram.endpoints:}")
+    private List<String> histogramEndpoints;
+
+    // Histogram buckets multiply the series per endpoint, so they are only published for the listed URIs
+    @Bean
+    public MeterFilter endpointHistogramFilter() {
+        Set<String> uris = new HashSet<>(histogramEndpoints);
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!"http.server.requests".equals(id.getName()) || !uris.contains(id.getTag("uri"))) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .percentiles(0.5, 0.99, 0.999)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
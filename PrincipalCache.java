@@ -0,0 +1,113 @@
+package com.inventory.config;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class PrincipalCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+    private static final long TTL_MILLIS = 5 * 60 * 1000; // 5 minutes
+
+    private final Map<String, CachedPrincipal> entries = new ConcurrentHashMap<>();
+    // Bumped by invalidateUser; a principal loaded under an older generation is never kept
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public CachedPrincipal get(String token) {
+        String key = digest(token);
+        CachedPrincipal principal = entries.get(key);
+        if (principal != null && principal.expiresAt > System.currentTimeMillis()) {
+            hits.incrementAndGet();
+            return principal;
+        }
+        if (principal != null) {
+            entries.remove(key, principal);
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    // Read before loading the user, and pass the value to put
+    public long generation(String username) {
+        return generations.getOrDefault(username, 0L);
+    }
+
+    public void put(String token, String username, List<GrantedAuthority> authorities, long tokenExpiresAt, long generation) {
+        if (entries.size() >= MAX_ENTRIES) {
+            evict();
+        }
+        long expiresAt = Math.min(System.currentTimeMillis() + TTL_MILLIS, tokenExpiresAt);
+        String key = digest(token);
+        CachedPrincipal principal = new CachedPrincipal(username, List.copyOf(authorities), expiresAt);
+        entries.put(key, principal);
+        // Checked after the insert: an invalidation that ran in between either sees this entry or bumped the generation
+        if (generation(username) != generation) {
+            entries.remove(key, principal);
+        }
+    }
+
+    public void invalidateUser(String username) {
+        generations.merge(username, 1L, Long::sum);
+        entries.values().removeIf(principal -> principal.username.equals(username));
+    }
+
+    public Map<String, Object> stats() {
+        return Map.of(
+            "size", entries.size(),
+            "hits", hits.get(),
+            "misses", misses.get(),
+            "evictions", evictions.get()
+        );
+    }
+
+    // Drop expired entries first; if the cache is still full, shed an arbitrary tenth of it
+    private void evict() {
+        long now = System.currentTimeMillis();
+        int before = entries.size();
+        entries.values().removeIf(principal -> principal.expiresAt <= now);
+        int toShed = entries.size() - MAX_ENTRIES + MAX_ENTRIES / 10;
+        Iterator<String> keys = entries.keySet().iterator();
+        while (toShed-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+        evictions.addAndGet(Math.max(0, before - entries.size()));
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class CachedPrincipal {
+        private final String username;
+        private final List<GrantedAuthority> authorities;
+        private final long expiresAt;
+
+        CachedPrincipal(String username, List<GrantedAuthority> authorities, long expiresAt) {
+            this.username = username;
+            this.authorities = authorities;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getUsername() { return username; }
+        public List<GrantedAuthority> getAuthorities() { return authorities; }
+    }
+}
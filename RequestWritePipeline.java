@@ -0,0 +1,203 @@
+package com.inventory.service;
+
+import com.inventory.dto.RequestDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// Group commit for POST /api/requests: callers enqueue into a bounded lock-free ring and get a future
+// that completes once the transaction holding their request commits. Each writer drains up to
+// batch-size commands, waiting at most linger-ms for a group to fill, and writes them in one transaction.
+@Component
+public class RequestWritePipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestWritePipeline.class);
+
+    @Autowired
+    private RequestService requestService;
+
+    @Value("${requests.write-pipeline.queue-capacity:8192}")
+    private int queueCapacity;
+
+    @Value("${requests.write-pipeline.batch-size:200}")
+    private int batchSize;
+
+    @Value("${requests.write-pipeline.linger-ms:2}")
+    private long lingerMillis;
+
+    @Value("${requests.write-pipeline.writers:2}")
+    private int writerCount;
+
+    @Value("${requests.write-pipeline.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMillis;
+
+    private ChangeRingBuffer<CreateCommand> queue;
+    private final List<Writer> writers = new ArrayList<>();
+    private volatile boolean stopped;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong groups = new AtomicLong();
+    private final AtomicLong committed = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        queue = new ChangeRingBuffer<>(Integer.highestOneBit(Math.max(2, queueCapacity)));
+        for (int i = 0; i < writerCount; i++) {
+            Writer writer = new Writer();
+            writer.thread = new Thread(writer, "request-writer-" + i);
+            writer.thread.setDaemon(true);
+            writers.add(writer);
+            writer.thread.start();
+        }
+    }
+
+    // Runs before the EntityManagerFactory closes: writers finish the group they hold, then whatever
+    // is still queued is failed so no caller waits for the async request timeout
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopped = true;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMillis);
+        for (Writer writer : writers) {
+            LockSupport.unpark(writer.thread);
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            writer.thread.join(Math.max(1, remaining));
+            if (writer.thread.isAlive()) {
+                log.warn("{} did not finish its group within {} ms", writer.thread.getName(), shutdownTimeoutMillis);
+            }
+        }
+        failQueued();
+    }
+
+    // Completes with null when the user or item does not exist, exceptionally when the queue is full
+    public CompletableFuture<RequestDTO> submit(RequestDTO requestDTO) {
+        CreateCommand command = new CreateCommand(requestDTO);
+        if (stopped || !queue.offer(command)) {
+            rejected.incrementAndGet();
+            command.result.completeExceptionally(new RejectedExecutionException("Request write queue is full"));
+            return command.result;
+        }
+        submitted.incrementAndGet();
+        if (stopped) {
+            // Raced with stop() after its final drain
+            failQueued();
+            return command.result;
+        }
+        for (Writer writer : writers) {
+            if (writer.parked) {
+                LockSupport.unpark(writer.thread);
+                break;
+            }
+        }
+        return command.result;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("capacity", queue.capacity());
+        stats.put("depth", queue.size());
+        stats.put("submitted", submitted.get());
+        stats.put("rejected", rejected.get());
+        stats.put("groups", groups.get());
+        stats.put("committed", committed.get());
+        stats.put("fallbacks", fallbacks.get());
+        return stats;
+    }
+
+    private void failQueued() {
+        CreateCommand command;
+        while ((command = queue.poll()) != null) {
+            rejected.incrementAndGet();
+            command.result.completeExceptionally(new RejectedExecutionException("Request write pipeline is shutting down"));
+        }
+    }
+
+    private void write(List<CreateCommand> group) {
+        List<RequestDTO> requestDTOs = new ArrayList<>(group.size());
+        group.forEach(command -> requestDTOs.add(command.request));
+        try {
+            List<RequestDTO> created = requestService.createRequests(requestDTOs);
+            groups.incrementAndGet();
+            committed.addAndGet(group.size());
+            for (int i = 0; i < group.size(); i++) {
+                group.get(i).result.complete(created.get(i));
+            }
+        } catch (RuntimeException e) {
+            // One bad command must not fail its neighbours, so the group is retried one transaction each
+            log.warn("Group commit of {} requests failed, retrying individually", group.size(), e);
+            fallbacks.incrementAndGet();
+            for (CreateCommand command : group) {
+                try {
+                    command.result.complete(requestService.createRequest(command.request));
+                    committed.incrementAndGet();
+                } catch (RuntimeException single) {
+                    command.result.completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    private class Writer implements Runnable {
+        private Thread thread;
+        private volatile boolean parked;
+
+        @Override
+        public void run() {
+            List<CreateCommand> group = new ArrayList<>(batchSize);
+            while (!stopped) {
+                drain(group);
+                if (group.isEmpty()) {
+                    parked = true;
+                    if (queue.size() == 0) {
+                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+                    }
+                    parked = false;
+                    continue;
+                }
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (group.size() < batchSize && System.nanoTime() < deadline) {
+                    if (!drain(group)) {
+                        LockSupport.parkNanos(50_000);
+                    }
+                }
+                write(group);
+                group.clear();
+            }
+        }
+
+        private boolean drain(List<CreateCommand> group) {
+            boolean drained = false;
+            CreateCommand command;
+            while (group.size() < batchSize && (command = queue.poll()) != null) {
+                group.add(command);
+                drained = true;
+            }
+            return drained;
+        }
+    }
+
+    private static class CreateCommand {
+        private final RequestDTO request;
+        private final CompletableFuture<RequestDTO> result = new CompletableFuture<>();
+
+        CreateCommand(RequestDTO request) {
+            this.request = request;
+        }
+    }
+}
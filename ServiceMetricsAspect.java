@@ -0,0 +1,49 @@
+package com.inventory.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Times every public method of the @Service beans as inventory.service{class,method,exception}
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Registered once per method and outcome, so an advised call costs two map lookups rather than a meter id
+    private final Map<Method, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.inventory.service..*(..)) && @within(org.springframework.stereotype.Service)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(timer(((MethodSignature) joinPoint.getSignature()).getMethod(), exception));
+        }
+    }
+
+    private Timer timer(Method method, String exception) {
+        return timers.computeIfAbsent(method, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(exception, key -> Timer.builder("inventory.service")
+                        .tag("class", method.getDeclaringClass().getSimpleName())
+                        .tag("method", method.getName())
+                        .tag("exception", exception)
+                        .register(meterRegistry));
+    }
+}
@@ -0,0 +1,34 @@
+package com.inventory.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// The snapshot profile creates the schema, lets DataInitializer seed it, then compacts the file and exits
+@Component
+@Profile("snapshot")
+@Order(100)
+public class SnapshotExitRunner implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotExitRunner.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Override
+    public void run(String... args) {
+        jdbcTemplate.execute("CHECKPOINT SYNC");
+        log.info("H2 snapshot written, exiting");
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+}
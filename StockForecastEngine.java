@@ -0,0 +1,269 @@
+package com.inventory.service;
+
+import com.inventory.dto.StockForecastDTO;
+import com.inventory.model.Request;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+// Per-item demand over a sliding window of daily buckets, fed by committed request and item writes.
+// All state is owned by one worker thread, so each event is an O(1) update of a single item and
+// events are applied in commit-callback order without locking.
+@Component
+public class StockForecastEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(StockForecastEngine.class);
+
+    private static final Comparator<StockForecastDTO> MOST_URGENT = Comparator
+            .comparingDouble((StockForecastDTO forecast) -> forecast.getDaysToStockout() != null
+                    ? forecast.getDaysToStockout() : Double.MAX_VALUE)
+            .thenComparingInt(StockForecastDTO::getAvailable)
+            .thenComparing(StockForecastDTO::getItemId);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventStreamService eventStreamService;
+
+    @Value("${stock-forecast.window-days:14}")
+    private int windowDays;
+
+    @Value("${stock-forecast.alert-days:7}")
+    private double alertDays;
+
+    @Value("${stock-forecast.min-available:0}")
+    private int minAvailable;
+
+    private final Map<Long, ItemDemand> items = new HashMap<>();
+    private final Map<Long, StockForecastDTO> lowStock = new ConcurrentHashMap<>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stock-forecast");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // After RequestStatsService has rebuilt the daily rollups this reads from; readiness does not wait for the load
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)
+    public void start() {
+        reload();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    public List<StockForecastDTO> getLowStock(int limit) {
+        return lowStock.values().stream()
+                .sorted(MOST_URGENT)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    public void requestCreated(Long itemId, int quantity, LocalDateTime requestDate) {
+        afterCommit(() -> update(itemId, item -> {
+            item.addDemand(requestDate.toLocalDate().toEpochDay(), quantity);
+            item.pending += quantity;
+        }));
+    }
+
+    // Approval takes the quantity out of stock; leaving APPROVED puts it back
+    public void requestTransitioned(Long itemId, int quantity, Request.Status from, Request.Status to) {
+        afterCommit(() -> update(itemId, item -> {
+            if (from == Request.Status.PENDING) {
+                item.pending -= quantity;
+            }
+            if (to == Request.Status.APPROVED) {
+                item.stock -= quantity;
+            } else if (from == Request.Status.APPROVED) {
+                item.stock += quantity;
+            }
+        }));
+    }
+
+    public void itemChanged(Long itemId, String name, int quantity) {
+        afterCommit(() -> {
+            items.computeIfAbsent(itemId, id -> new ItemDemand(id, windowDays, LocalDate.now().toEpochDay()));
+            update(itemId, item -> {
+                item.name = name;
+                item.stock = quantity;
+            });
+        });
+    }
+
+    public void itemRemoved(Long itemId) {
+        afterCommit(() -> {
+            items.remove(itemId);
+            if (lowStock.remove(itemId) != null) {
+                eventStreamService.publishStockRecovered(itemId);
+            }
+        });
+    }
+
+    // Rolls every window forward so items whose demand has aged out drop off the list
+    @Scheduled(fixedRateString = "${stock-forecast.reevaluate-interval-ms:60000}")
+    public void reevaluate() {
+        worker.execute(() -> {
+            long today = LocalDate.now().toEpochDay();
+            items.values().forEach(item -> {
+                item.advance(today);
+                evaluate(item);
+            });
+        });
+    }
+
+    // Resynchronises with the database: stock and pending quantities from items and requests, demand
+    // from the per-item daily rollups. Catches up after JDBC imports and any event that raced a reload.
+    // The reads and the swap run as one task on the worker, so events that arrive meanwhile queue behind
+    // the swap and are applied to the new state instead of being overwritten by it. An event whose commit
+    // landed just before the snapshot but was queued after the load started is counted twice until the next resync.
+    @Scheduled(initialDelayString = "${stock-forecast.resync-interval-ms:3600000}",
+               fixedDelayString = "${stock-forecast.resync-interval-ms:3600000}")
+    public void reload() {
+        worker.execute(this::load);
+    }
+
+    private void load() {
+        long started = System.currentTimeMillis();
+        long today = LocalDate.now().toEpochDay();
+        Map<Long, ItemDemand> loaded = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name, quantity FROM items", rs -> {
+            ItemDemand item = new ItemDemand(rs.getLong(1), windowDays, today);
+            item.name = rs.getString(2);
+            item.stock = rs.getInt(3);
+            loaded.put(item.id, item);
+        });
+        jdbcTemplate.query("SELECT item_id, SUM(quantity) FROM requests WHERE status = 'PENDING' GROUP BY item_id", rs -> {
+            ItemDemand item = loaded.get(rs.getLong(1));
+            if (item != null) {
+                item.pending = rs.getLong(2);
+            }
+        });
+        jdbcTemplate.query("SELECT dimension_id, rollup_date, requested_quantity FROM request_demand_rollups " +
+                "WHERE dimension = 'ITEM' AND rollup_date > ?", rs -> {
+            ItemDemand item = loaded.get(rs.getLong(1));
+            if (item != null) {
+                item.addDemand(rs.getDate(2).toLocalDate().toEpochDay(), rs.getLong(3));
+            }
+        }, Date.valueOf(LocalDate.ofEpochDay(today - windowDays)));
+
+        items.clear();
+        items.putAll(loaded);
+        lowStock.keySet().removeIf(id -> !items.containsKey(id));
+        items.values().forEach(this::evaluate);
+        log.info("Stock forecast loaded {} items in {} ms, {} low on stock",
+                items.size(), System.currentTimeMillis() - started, lowStock.size());
+    }
+
+    // Events for items the engine does not know yet are dropped; the next reload picks them up
+    private void update(Long itemId, Consumer<ItemDemand> change) {
+        ItemDemand item = items.get(itemId);
+        if (item == null) {
+            return;
+        }
+        item.advance(LocalDate.now().toEpochDay());
+        change.accept(item);
+        evaluate(item);
+    }
+
+    // Publishes an alert only when an item crosses the threshold, not on every event while it stays low
+    private void evaluate(ItemDemand item) {
+        StockForecastDTO forecast = item.forecast(windowDays);
+        boolean low = forecast.getAvailable() <= minAvailable
+                || (forecast.getDaysToStockout() != null && forecast.getDaysToStockout() <= alertDays);
+        forecast.setLowStock(low);
+        if (low) {
+            if (lowStock.put(item.id, forecast) == null) {
+                eventStreamService.publishStockAlert(forecast);
+            }
+        } else if (lowStock.remove(item.id) != null) {
+            eventStreamService.publishStockRecovered(item.id);
+        }
+    }
+
+    private void afterCommit(Runnable event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    worker.execute(event);
+                }
+            });
+        } else {
+            worker.execute(event);
+        }
+    }
+
+    private static class ItemDemand {
+        private final Long id;
+        private final long[] buckets;
+        private long headDay;
+        private long windowTotal;
+        private String name;
+        private int stock;
+        private long pending;
+
+        ItemDemand(Long id, int windowDays, long today) {
+            this.id = id;
+            this.buckets = new long[windowDays];
+            this.headDay = today;
+        }
+
+        // Clears the buckets of days that have slid out of the window
+        void advance(long day) {
+            if (day <= headDay) {
+                return;
+            }
+            long cleared = Math.min(day - headDay, buckets.length);
+            for (long d = day - cleared + 1; d <= day; d++) {
+                int slot = (int) Math.floorMod(d, (long) buckets.length);
+                windowTotal -= buckets[slot];
+                buckets[slot] = 0;
+            }
+            headDay = day;
+        }
+
+        void addDemand(long day, long quantity) {
+            if (day > headDay) {
+                advance(day);
+            }
+            if (day <= headDay - buckets.length) {
+                return;
+            }
+            buckets[(int) Math.floorMod(day, (long) buckets.length)] += quantity;
+            windowTotal += quantity;
+        }
+
+        StockForecastDTO forecast(int windowDays) {
+            int available = (int) Math.max(Integer.MIN_VALUE, stock - pending);
+            double dailyDemand = (double) windowTotal / windowDays;
+            Double daysToStockout = dailyDemand > 0 ? Math.max(0, available) / dailyDemand : null;
+            return new StockForecastDTO(id, name, stock, pending, available, dailyDemand, daysToStockout);
+        }
+    }
+}
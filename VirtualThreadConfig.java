@@ -0,0 +1,52 @@
+package com.inventory.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.sql.DataSource;
+
+// spring.threads.virtual.enabled=true (the "virtual" profile) moves Tomcat request handling, scheduling
+// and @Async work onto virtual threads; JDBC access is then gated by AdmissionControlledDataSource
+@Configuration
+@EnableAsync
+public class VirtualThreadConfig {
+
+    @Bean(name = {"taskExecutor", "applicationTaskExecutor"})
+    public AsyncTaskExecutor taskExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setThreadNamePrefix("async-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Static so it is registered before the DataSource bean is created
+    @Bean
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    public static BeanPostProcessor connectionAdmissionPostProcessor(Environment environment) {
+        int permits = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        long timeoutMillis = environment.getProperty("datasource.admission.timeout-ms", Long.class, 30_000L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof AdmissionControlledDataSource)) {
+                    return new AdmissionControlledDataSource((DataSource) bean, permits, timeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
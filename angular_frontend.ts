@@ -195,6 +195,17 @@ export interface Item {
   quantity: number;
 }
 
+export interface StockForecast {
+  itemId: number;
+  name: string;
+  quantity: number;
+  pendingQuantity: number;
+  available: number;
+  dailyDemand: number;
+  daysToStockout?: number;
+  lowStock: boolean;
+}
+
 // models/request.model.ts
 import { User } from './user.model';
 import { Item } from './item.model';
@@ -211,6 +222,38 @@ export interface Request {
   adminComments?: string;
 }
 
+export interface RequestPage {
+  content: Request[];
+  nextCursor?: string;
+}
+
+export interface RequestFilter {
+  status?: string;
+  userId?: number;
+  itemId?: number;
+  from?: string;
+  to?: string;
+  cursor?: string;
+  limit?: number;
+}
+
+export interface DemandStat {
+  id: number;
+  requestedCount: number;
+  requestedQuantity: number;
+  approvedCount: number;
+  approvedQuantity: number;
+}
+
+export interface RequestStats {
+  statusCounts: { [status: string]: number };
+  total: number;
+  from: string;
+  to: string;
+  topItems: DemandStat[];
+  topUsers: DemandStat[];
+}
+
 // services/auth.service.ts
 import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
@@ -264,7 +307,7 @@ export class AuthService {
 import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
 import { Observable } from 'rxjs';
-import { Item } from '../models/item.model';
+import { Item, StockForecast } from '../models/item.model';
 
 @Injectable({
   providedIn: 'root'
@@ -282,6 +325,14 @@ export class ItemService {
     return this.http.get<Item>(`${this.apiUrl}/${id}`);
   }
 
+  searchItems(query: string, limit = 10): Observable<Item[]> {
+    return this.http.get<Item[]>(`${this.apiUrl}/search`, { params: { q: query, limit } });
+  }
+
+  getLowStock(limit = 100): Observable<StockForecast[]> {
+    return this.http.get<StockForecast[]>(`${this.apiUrl}/low-stock`, { params: { limit } });
+  }
+
   createItem(item: Item): Observable<Item> {
     return this.http.post<Item>(this.apiUrl, item);
   }
@@ -297,9 +348,9 @@ export class ItemService {
 
 // services/request.service.ts
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
-import { Request } from '../models/request.model';
+import { Request, RequestPage, RequestFilter, RequestStats } from '../models/request.model';
 
 @Injectable({
   providedIn: 'root'
@@ -309,8 +360,14 @@ export class RequestService {
 
   constructor(private http: HttpClient) {}
 
-  getAllRequests(): Observable<Request[]> {
-    return this.http.get<Request[]>(this.apiUrl);
+  getAllRequests(filter: RequestFilter = {}): Observable<RequestPage> {
+    let params = new HttpParams();
+    Object.entries(filter).forEach(([key, value]) => {
+      if (value !== undefined && value !== null && value !== '') {
+        params = params.set(key, String(value));
+      }
+    });
+    return this.http.get<RequestPage>(this.apiUrl, { params });
   }
 
   getRequestsByUser(userId: number): Observable<Request[]> {
@@ -332,6 +389,17 @@ export class RequestService {
   cancelRequest(id: number): Observable<Request> {
     return this.http.put<Request>(`${this.apiUrl}/${id}/cancel`, {});
   }
+
+  getStats(from?: string, to?: string, top = 10): Observable<RequestStats> {
+    let params = new HttpParams().set('top', String(top));
+    if (from) {
+      params = params.set('from', from);
+    }
+    if (to) {
+      params = params.set('to', to);
+    }
+    return this.http.get<RequestStats>('http://localhost:8080/api/stats', { params });
+  }
 }
 
 // guards/auth.guard.ts
@@ -683,6 +751,7 @@ import { Request } from '../../models/request.model';
 export class RequestManagementComponent implements OnInit {
   requests: Request[] = [];
   displayedColumns: string[] = ['employee', 'item', 'quantity', 'reason', 'status', 'requestDate', 'actions'];
+  nextCursor?: string;
 
   constructor(
     private requestService: RequestService,
@@ -693,10 +762,11 @@ export class RequestManagementComponent implements OnInit {
     this.loadRequests();
   }
 
-  loadRequests() {
-    this.requestService.getAllRequests().subscribe({
-      next: (requests) => {
-        this.requests = requests;
+  loadRequests(cursor?: string) {
+    this.requestService.getAllRequests({ cursor }).subscribe({
+      next: (page) => {
+        this.requests = cursor ? this.requests.concat(page.content) : page.content;
+        this.nextCursor = page.nextCursor;
       },
       error: (error) => {
         this.snackBar.open('Error loading requests', 'Close', { duration: 3000 });
@@ -704,6 +774,12 @@ export class RequestManagementComponent implements OnInit {
     });
   }
 
+  loadMore() {
+    if (this.nextCursor) {
+      this.loadRequests(this.nextCursor);
+    }
+  }
+
   approveRequest(request: Request) {
     const comments = prompt('Enter approval comments (optional):') || '';
     if (request.id) {
@@ -810,6 +886,10 @@ export class RequestManagementComponent implements OnInit {
         <tr mat-header-row *matHeaderRowDef="displayedColumns"></tr>
         <tr mat-row *matRowDef="let row; columns: displayedColumns;"></tr>
       </table>
+
+      <div class="load-more" *ngIf="nextCursor">
+        <button mat-stroked-button color="primary" (click)="loadMore()">Load more</button>
+      </div>
     </mat-card-content>
   </mat-card>
 </div>
@@ -823,6 +903,12 @@ export class RequestManagementComponent implements OnInit {
   width: 100%;
 }
 
+.load-more {
+  display: flex;
+  justify-content: center;
+  margin-top: 16px;
+}
+
 // components/add-request-dialog/add-request-dialog.component.ts
 import { Component, OnInit } from '@angular/core';
 import { FormBuilder, FormGroup, Validators } from '@angular/forms';
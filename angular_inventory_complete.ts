@@ -233,6 +233,7 @@ export class RequestManagementComponent implements OnInit {
   requests: Request[] = [];
   displayedColumns: string[] = ['employee', 'item', 'quantity', 'reason', 'status', 'requestDate', 'actions'];
   filterStatus = 'ALL';
+  nextCursor?: string;
 
   constructor(
     private requestService: RequestService,
@@ -244,10 +245,12 @@ export class RequestManagementComponent implements OnInit {
     this.loadRequests();
   }
 
-  loadRequests() {
-    this.requestService.getAllRequests().subscribe({
-      next: (requests) => {
-        this.requests = requests;
+  loadRequests(cursor?: string) {
+    const status = this.filterStatus === 'ALL' ? undefined : this.filterStatus;
+    this.requestService.getAllRequests({ status, cursor }).subscribe({
+      next: (page) => {
+        this.requests = cursor ? this.requests.concat(page.content) : page.content;
+        this.nextCursor = page.nextCursor;
       },
       error: (error) => {
         this.snackBar.open('Error loading requests', 'Close', { duration: 3000 });
@@ -255,11 +258,15 @@ export class RequestManagementComponent implements OnInit {
     });
   }
 
-  get filteredRequests(): Request[] {
-    if (this.filterStatus === 'ALL') {
-      return this.requests;
+  loadMore() {
+    if (this.nextCursor) {
+      this.loadRequests(this.nextCursor);
     }
-    return this.requests.filter(request => request.status === this.filterStatus);
+  }
+
+  onFilterChange(status: string) {
+    this.filterStatus = status;
+    this.loadRequests();
   }
 
   approveRequest(request: Request) {
@@ -322,7 +329,7 @@ export class RequestManagementComponent implements OnInit {
       <div class="spacer"></div>
       <mat-form-field appearance="outline" class="filter-field">
         <mat-label>Filter by Status</mat-label>
-        <mat-select [(value)]="filterStatus">
+        <mat-select [value]="filterStatus" (selectionChange)="onFilterChange($event.value)">
           <mat-option value="ALL">All Requests</mat-option>
           <mat-option value="PENDING">Pending</mat-option>
           <mat-option value="APPROVED">Approved</mat-option>
@@ -332,12 +339,12 @@ export class RequestManagementComponent implements OnInit {
       </mat-form-field>
     </mat-card-header>
     <mat-card-content>
-      <div *ngIf="filteredRequests.length === 0" class="no-requests">
+      <div *ngIf="requests.length === 0" class="no-requests">
         <mat-icon>inbox</mat-icon>
         <p>No requests found</p>
       </div>
       
-      <table mat-table [dataSource]="filteredRequests" class="full-width" *ngIf="filteredRequests.length > 0">
+      <table mat-table [dataSource]="requests" class="full-width" *ngIf="requests.length > 0">
         <ng-container matColumnDef="employee">
           <th mat-header-cell *matHeaderCellDef>Employee</th>
           <td mat-cell *matCellDef="let request">
@@ -421,6 +428,10 @@ export class RequestManagementComponent implements OnInit {
             [class.approved-row]="row.status === 'APPROVED'"
             [class.rejected-row]="row.status === 'REJECTED'"></tr>
       </table>
+
+      <div class="load-more" *ngIf="nextCursor">
+        <button mat-stroked-button color="primary" (click)="loadMore()">Load more</button>
+      </div>
     </mat-card-content>
   </mat-card>
 </div>
@@ -444,6 +455,12 @@ export class RequestManagementComponent implements OnInit {
   margin-left: 20px;
 }
 
+.load-more {
+  display: flex;
+  justify-content: center;
+  margin-top: 16px;
+}
+
 mat-card-header {
   display: flex;
   align-items: center;
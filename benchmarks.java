@@ -0,0 +1,1005 @@
+// benchmarks/pom.xml
+<?xml version="1.0" encoding="UTF-8"?>
+<project xmlns="http://maven.apache.org/POM/4.0.0"
+         xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+         xsi:schemaLocation="http://maven.apache.org/POM/4.0.0
+         http://maven.apache.org/xsd/maven-4.0.0.xsd">
+    <modelVersion>4.0.0</modelVersion>
+
+    <parent>
+        <groupId>org.springframework.boot</groupId>
+        <artifactId>spring-boot-starter-parent</artifactId>
+        <version>3.2.0</version>
+        <relativePath/>
+    </parent>
+
+    <groupId>com.inventory</groupId>
+    <artifactId>inventory-management-benchmarks</artifactId>
+    <version>1.0.0</version>
+    <name>inventory-management-benchmarks</name>
+
+    <properties>
+        <java.version>21</java.version>
+        <jmh.version>1.37</jmh.version>
+    </properties>
+
+    <dependencies>
+        <dependency>
+            <groupId>com.inventory</groupId>
+            <artifactId>inventory-management</artifactId>
+            <version>1.0.0</version>
+        </dependency>
+        <dependency>
+            <groupId>io.jsonwebtoken</groupId>
+            <artifactId>jjwt</artifactId>
+            <version>0.9.1</version>
+        </dependency>
+        <dependency>
+            <groupId>org.openjdk.jmh</groupId>
+            <artifactId>jmh-core</artifactId>
+            <version>${jmh.version}</version>
+        </dependency>
+        <dependency>
+            <groupId>org.openjdk.jmh</groupId>
+            <artifactId>jmh-generator-annprocess</artifactId>
+            <version>${jmh.version}</version>
+            <scope>provided</scope>
+        </dependency>
+    </dependencies>
+
+    <build>
+        <plugins>
+            <plugin>
+                <groupId>org.apache.maven.plugins</groupId>
+                <artifactId>maven-shade-plugin</artifactId>
+                <executions>
+                    <execution>
+                        <phase>package</phase>
+                        <goals>
+                            <goal>shade</goal>
+                        </goals>
+                        <configuration>
+                            <finalName>benchmarks</finalName>
+                            <transformers>
+                                <transformer implementation="org.apache.maven.plugins.shade.resource.ManifestResourceTransformer">
+                                    <mainClass>org.openjdk.jmh.Main</mainClass>
+                                </transformer>
+                                <transformer implementation="org.apache.maven.plugins.shade.resource.ServicesResourceTransformer"/>
+                                <transformer implementation="org.apache.maven.plugins.shade.resource.AppendingTransformer">
+                                    <resource>META-INF/spring.handlers</resource>
+                                </transformer>
+                                <transformer implementation="org.apache.maven.plugins.shade.resource.AppendingTransformer">
+                                    <resource>META-INF/spring.schemas</resource>
+                                </transformer>
+                                <transformer implementation="org.apache.maven.plugins.shade.resource.AppendingTransformer">
+                                    <resource>META-INF/spring/org.springframework.boot.autoconfigure.AutoConfiguration.imports</resource>
+                                </transformer>
+                            </transformers>
+                        </configuration>
+                    </execution>
+                </executions>
+            </plugin>
+        </plugins>
+    </build>
+</project>
+
+// BenchmarkData.java
+package com.inventory.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inventory.dto.ItemDTO;
+import com.inventory.dto.RequestDTO;
+import com.inventory.model.Item;
+import com.inventory.model.Request;
+import com.inventory.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Deterministic fixtures so runs on different machines and commits measure the same data
+final class BenchmarkData {
+
+    private BenchmarkData() {}
+
+    static List<Request> requests(int count) {
+        Random random = new Random(42);
+        List<User> users = new ArrayList<>();
+        for (long i = 1; i <= 100; i++) {
+            User user = new User("user" + i, "password", "User " + i, User.Role.EMPLOYEE);
+            user.setId(i);
+            users.add(user);
+        }
+        List<Item> items = new ArrayList<>();
+        for (long i = 1; i <= 500; i++) {
+            Item item = new Item("Item " + i, "Description of item " + i, 100);
+            item.setId(i);
+            items.add(item);
+        }
+
+        Request.Status[] statuses = Request.Status.values();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+        List<Request> requests = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            Request request = new Request(users.get(random.nextInt(users.size())),
+                    items.get(random.nextInt(items.size())), 1 + random.nextInt(5), "Needed for project " + i);
+            request.setId(i);
+            request.setStatus(statuses[random.nextInt(statuses.length)]);
+            request.setRequestDate(start.plusMinutes(i * 7));
+            if (request.getStatus() != Request.Status.PENDING) {
+                request.setResponseDate(request.getRequestDate().plusHours(4));
+                request.setAdminComments("Reviewed");
+            }
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    static List<ItemDTO> itemDTOs(int count) {
+        Random random = new Random(42);
+        List<ItemDTO> items = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            items.add(new ItemDTO(i, "Item " + i, "Description of item " + i, random.nextInt(250)));
+        }
+        return items;
+    }
+
+    // Mappers configured like the ones the application negotiates: ISO dates, Boot's modules, and
+    // shared string values for Smile as in BinaryContentConfig
+    static ObjectMapper mapper(String format) {
+        ObjectMapper mapper;
+        switch (format) {
+            case "json":
+                mapper = new ObjectMapper();
+                break;
+            case "cbor":
+                mapper = new CBORMapper();
+                break;
+            case "smile":
+                mapper = new SmileMapper(SmileFactory.builder()
+                        .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                        .build());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown format " + format);
+        }
+        return mapper.registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    // Same constructor call RequestService uses when it builds a DTO from a loaded entity
+    static RequestDTO toDTO(Request request) {
+        return new RequestDTO(request.getId(), request.getUser().getId(), request.getItem().getId(),
+                request.getQuantity(), request.getReason(), request.getStatus().toString(),
+                request.getRequestDate(), request.getResponseDate(), request.getAdminComments());
+    }
+}
+
+// RequestMappingBenchmark.java
+package com.inventory.benchmarks;
+
+import com.inventory.dto.RequestDTO;
+import com.inventory.model.Request;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestMappingBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private List<Request> requests;
+
+    @Setup
+    public void setUp() {
+        requests = BenchmarkData.requests(size);
+    }
+
+    @Benchmark
+    public List<RequestDTO> mapWithLoop() {
+        List<RequestDTO> dtos = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            dtos.add(BenchmarkData.toDTO(request));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<RequestDTO> mapWithStream() {
+        return requests.stream().map(BenchmarkData::toDTO).collect(Collectors.toList());
+    }
+}
+
+// JwtBenchmark.java
+package com.inventory.benchmarks;
+
+import com.inventory.config.JwtAuthenticationFilter;
+import com.inventory.config.PrincipalCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JwtBenchmark {
+
+    // Must match the signing key in JwtAuthenticationFilter
+    private static final String SECRET_KEY = "your-very-secure-and-long-secret-key-1234567890";
+
+    private JwtAuthenticationFilter filter;
+    private PrincipalCache principalCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        principalCache = new PrincipalCache();
+        filter = new JwtAuthenticationFilter(null, principalCache, new SimpleMeterRegistry());
+        token = filter.generateToken("john", "EMPLOYEE");
+        principalCache.put(token, "john", List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE")), Long.MAX_VALUE,
+                principalCache.generation("john"));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return filter.generateToken("john", "EMPLOYEE");
+    }
+
+    @Benchmark
+    public Claims parseToken() {
+        return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
+    }
+
+    // The path JwtAuthenticationFilter takes for a token it has already verified
+    @Benchmark
+    public PrincipalCache.CachedPrincipal cachedPrincipal() {
+        return principalCache.get(token);
+    }
+}
+
+// ItemCatalogBenchmark.java
+package com.inventory.benchmarks;
+
+import com.inventory.InventoryManagementApplication;
+import com.inventory.dto.ItemDTO;
+import com.inventory.service.ItemService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Boots the application without a web server against the in-memory H2 database
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemCatalogBenchmark {
+
+    @Param({"1000", "100000"})
+    private int items;
+
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(InventoryManagementApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run("--spring.jpa.show-sql=false", "--logging.level.root=WARN",
+                "--group-rules.schedule.interval-ms=86400000");
+        itemService = context.getBean(ItemService.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> rows = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            rows.add(new Object[] {"Bench item " + i, "Benchmark item number " + i, i % 250});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO items (name, description, quantity, version) VALUES (?, ?, ?, 0)", rows);
+        itemService.catalogChanged();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // Served from the cached snapshot
+    @Benchmark
+    public List<ItemDTO> getAllItemsCached() {
+        return itemService.getAllItems();
+    }
+
+    // Every call reloads the catalog from H2, as after each item write
+    @Benchmark
+    public List<ItemDTO> getAllItemsAfterChange() {
+        itemService.catalogChanged();
+        return itemService.getAllItems();
+    }
+}
+
+// JacksonBenchmark.java
+package com.inventory.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inventory.dto.RequestDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JacksonBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    // Configured like the mapper Spring Boot auto-configures
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private List<RequestDTO> requests;
+
+    @Setup
+    public void setUp() {
+        requests = BenchmarkData.requests(size).stream().map(BenchmarkData::toDTO).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serializeRequests() throws Exception {
+        return objectMapper.writeValueAsBytes(requests);
+    }
+}
+
+// PayloadFormatBenchmark.java
+package com.inventory.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.dto.ItemDTO;
+import com.inventory.dto.RequestDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// JSON against the binary encodings offered through content negotiation, for 10k-element lists.
+// PayloadSizeReport prints the encoded sizes.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PayloadFormatBenchmark {
+
+    private static final TypeReference<List<RequestDTO>> REQUEST_LIST = new TypeReference<>() {};
+    private static final TypeReference<List<ItemDTO>> ITEM_LIST = new TypeReference<>() {};
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"10000"})
+    private int size;
+
+    private ObjectMapper mapper;
+    private List<RequestDTO> requests;
+    private List<ItemDTO> items;
+    private byte[] encodedRequests;
+    private byte[] encodedItems;
+
+    @Setup
+    public void setUp() throws Exception {
+        mapper = BenchmarkData.mapper(format);
+        requests = BenchmarkData.requests(size).stream().map(BenchmarkData::toDTO).collect(Collectors.toList());
+        items = BenchmarkData.itemDTOs(size);
+        encodedRequests = mapper.writeValueAsBytes(requests);
+        encodedItems = mapper.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public byte[] serializeRequests() throws Exception {
+        return mapper.writeValueAsBytes(requests);
+    }
+
+    @Benchmark
+    public List<RequestDTO> deserializeRequests() throws Exception {
+        return mapper.readValue(encodedRequests, REQUEST_LIST);
+    }
+
+    @Benchmark
+    public byte[] serializeItems() throws Exception {
+        return mapper.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public List<ItemDTO> deserializeItems() throws Exception {
+        return mapper.readValue(encodedItems, ITEM_LIST);
+    }
+}
+
+// PayloadSizeReport.java
+package com.inventory.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.dto.ItemDTO;
+import com.inventory.dto.RequestDTO;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+// java -cp benchmarks/target/benchmarks.jar com.inventory.benchmarks.PayloadSizeReport [size]
+public class PayloadSizeReport {
+
+    public static void main(String[] args) throws IOException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        List<RequestDTO> requests = BenchmarkData.requests(size).stream().map(BenchmarkData::toDTO).collect(Collectors.toList());
+        List<ItemDTO> items = BenchmarkData.itemDTOs(size);
+
+        System.out.printf("%-8s %-10s %12s %12s%n", "format", "payload", "bytes", "gzip bytes");
+        for (String format : List.of("json", "cbor", "smile")) {
+            ObjectMapper mapper = BenchmarkData.mapper(format);
+            print(format, "requests", mapper.writeValueAsBytes(requests));
+            print(format, "items", mapper.writeValueAsBytes(items));
+        }
+    }
+
+    private static void print(String format, String payload, byte[] encoded) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(encoded);
+        }
+        System.out.printf("%-8s %-10s %12d %12d%n", format, payload, encoded.length, compressed.size());
+    }
+}
+
+// RuleEngineBenchmark.java
+package com.inventory.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.InventoryManagementApplication;
+import com.inventory.model.RuleCondition;
+import com.inventory.model.UserGroup;
+import com.inventory.model.UserGroupRule;
+import com.inventory.repository.UserGroupRepository;
+import com.inventory.repository.UserGroupRuleRepository;
+import com.inventory.service.CompiledRule;
+import com.inventory.service.RowChange;
+import com.inventory.service.RuleEngine;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// RuleEngine's compiled, column-indexed evaluation against interpreting every active rule's conditions as
+// stored, for an update touching two columns of a wide row and for a newly created row (every column changed)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleEngineBenchmark {
+
+    private static final int COLUMNS = 20;
+    private static final String[] OPERATORS = {"=", "IN", "!=", "IS_NULL", "CHANGED_FROM", "CHANGED_TO"};
+    private static final TypeReference<List<Object>> VALUE_LIST = new TypeReference<>() {};
+
+    @Param({"100", "5000"})
+    private int rules;
+
+    private ConfigurableApplicationContext context;
+    private RuleEngine ruleEngine;
+    private ObjectMapper objectMapper;
+    private List<UserGroupRule> storedRules;
+    private RowChange update;
+    private RowChange created;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(InventoryManagementApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run("--spring.jpa.show-sql=false", "--logging.level.root=WARN",
+                "--group-rules.schedule.interval-ms=86400000");
+        ruleEngine = context.getBean(RuleEngine.class);
+        objectMapper = new ObjectMapper();
+
+        Random random = new Random(42);
+        UserGroupRepository groupRepository = context.getBean(UserGroupRepository.class);
+        List<UserGroup> groups = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            groups.add(groupRepository.save(new UserGroup("Bench group " + i, "Benchmark group " + i)));
+        }
+        List<UserGroupRule> generated = new ArrayList<>(rules);
+        for (int i = 0; i < rules; i++) {
+            UserGroupRule rule = new UserGroupRule(groups.get(random.nextInt(groups.size())), "Bench rule " + i,
+                    UserGroupRule.RuleType.values()[random.nextInt(3)], UserGroupRule.TriggerType.ON_CHANGE, i);
+            int conditions = 1 + random.nextInt(3);
+            for (int c = 0; c < conditions; c++) {
+                RuleCondition condition = new RuleCondition(rule, "users", column(random.nextInt(COLUMNS)),
+                        OPERATORS[random.nextInt(OPERATORS.length)],
+                        "[\"v" + random.nextInt(10) + "\",\"v" + random.nextInt(10) + "\"]",
+                        random.nextInt(4) == 0 ? "OR" : "AND", c);
+                rule.getConditions().add(condition);
+            }
+            generated.add(rule);
+        }
+        storedRules = context.getBean(UserGroupRuleRepository.class).saveAll(generated);
+        ruleEngine.reload();
+
+        Map<String, Object> before = new HashMap<>();
+        for (int c = 0; c < COLUMNS; c++) {
+            before.put(column(c), "v" + random.nextInt(10));
+        }
+        Map<String, Object> after = new HashMap<>(before);
+        after.put(column(3), "v7");
+        after.put(column(11), "v2");
+        update = new RowChange("users", 1L, after, before);
+        created = new RowChange("users", 1L, after, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CompiledRule> compiledUpdate() {
+        return ruleEngine.evaluate(update);
+    }
+
+    @Benchmark
+    public List<UserGroupRule> interpretedUpdate() {
+        return interpret(update);
+    }
+
+    @Benchmark
+    public List<CompiledRule> compiledCreate() {
+        return ruleEngine.evaluate(created);
+    }
+
+    @Benchmark
+    public List<UserGroupRule> interpretedCreate() {
+        return interpret(created);
+    }
+
+    private static String column(int index) {
+        return "c" + index;
+    }
+
+    // What evaluation costs without compilation: every rule, its conditions re-sorted, operators
+    // dispatched by name and value lists parsed per change
+    private List<UserGroupRule> interpret(RowChange change) {
+        List<UserGroupRule> matches = new ArrayList<>();
+        for (UserGroupRule rule : storedRules) {
+            List<RuleCondition> conditions = rule.getConditions().stream()
+                    .filter(condition -> !Boolean.FALSE.equals(condition.getActive()))
+                    .sorted(Comparator.comparing(RuleCondition::getConditionOrder))
+                    .toList();
+            boolean result = false;
+            boolean group = true;
+            for (int i = 0; i < conditions.size(); i++) {
+                RuleCondition condition = conditions.get(i);
+                if (i > 0 && "OR".equalsIgnoreCase(condition.getLogicalConnector())) {
+                    result |= group;
+                    group = true;
+                }
+                group &= interpret(condition, change);
+            }
+            if (result || group) {
+                matches.add(rule);
+            }
+        }
+        return matches;
+    }
+
+    private boolean interpret(RuleCondition condition, RowChange change) {
+        if (!change.getTableName().equals(condition.getTableName().toLowerCase(Locale.ROOT))) {
+            return false;
+        }
+        String column = condition.getColumnName().toLowerCase(Locale.ROOT);
+        Object value = change.getNewValue(column);
+        switch (condition.getOperator()) {
+            case "=":
+            case "IN":
+                return values(condition.getConditionValues()).contains(Objects.toString(value, null));
+            case "!=":
+                return !values(condition.getConditionValues()).contains(Objects.toString(value, null));
+            case "IS_NULL":
+                return value == null;
+            case "IS_NOT_NULL":
+                return value != null;
+            case "CHANGED_FROM":
+                return change.isChanged(column)
+                        && values(condition.getConditionValues()).contains(Objects.toString(change.getOldValue(column), null));
+            case "CHANGED_TO":
+                return change.isChanged(column) && values(condition.getConditionValues()).contains(Objects.toString(value, null));
+            default:
+                return false;
+        }
+    }
+
+    private List<String> values(String json) {
+        try {
+            return objectMapper.readValue(json, VALUE_LIST).stream().map(String::valueOf).toList();
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
+
+// BulkStatusBenchmark.java
+package com.inventory.benchmarks;
+
+import com.inventory.InventoryManagementApplication;
+import com.inventory.dto.BulkStatusRequestDTO;
+import com.inventory.dto.BulkStatusResultDTO;
+import com.inventory.dto.ItemDTO;
+import com.inventory.dto.RequestDTO;
+import com.inventory.repository.UserRepository;
+import com.inventory.service.ItemService;
+import com.inventory.service.RequestService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Approving a batch of pending requests one call per id, as PUT /api/requests/{id}/approve does,
+// against one POST /api/requests/bulk-status. Every invocation approves a freshly created batch.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkStatusBenchmark {
+
+    @Param({"100", "1000"})
+    private int batch;
+
+    private ConfigurableApplicationContext context;
+    private RequestService requestService;
+    private List<RequestDTO> newRequests;
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(InventoryManagementApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run("--spring.jpa.show-sql=false", "--logging.level.root=WARN",
+                "--group-rules.schedule.interval-ms=86400000");
+        requestService = context.getBean(RequestService.class);
+
+        Long userId = context.getBean(UserRepository.class).findAll().get(0).getId();
+        List<Long> itemIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            itemIds.add(context.getBean(ItemService.class)
+                    .createItem(new ItemDTO(null, "Bench item " + i, "Bulk status benchmark item", Integer.MAX_VALUE / 2))
+                    .getId());
+        }
+        newRequests = new ArrayList<>(batch);
+        for (int i = 0; i < batch; i++) {
+            newRequests.add(new RequestDTO(null, userId, itemIds.get(i % itemIds.size()), 1, "Bulk benchmark " + i,
+                    null, null, null, null));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void createPending() {
+        ids = requestService.createRequests(newRequests).stream().map(RequestDTO::getId).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<RequestDTO> approvePerId() {
+        List<RequestDTO> approved = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            approved.add(requestService.updateRequestStatus(id, "APPROVED", "Approved in bulk"));
+        }
+        return approved;
+    }
+
+    @Benchmark
+    public List<BulkStatusResultDTO> approveBulk() {
+        return requestService.bulkUpdateStatus(new BulkStatusRequestDTO(ids, "APPROVED", "Approved in bulk"));
+    }
+}
+
+// ReservationStressTest.java
+package com.inventory.benchmarks;
+
+import com.inventory.InventoryManagementApplication;
+import com.inventory.dto.ItemDTO;
+import com.inventory.dto.RequestDTO;
+import com.inventory.repository.UserRepository;
+import com.inventory.service.InsufficientStockException;
+import com.inventory.service.ItemService;
+import com.inventory.service.RequestService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Many threads approve pending requests for one hot item with less stock than is requested, then the
+// database is checked for oversold stock and lost updates. Exits non-zero when a check fails.
+// java -cp benchmarks/target/benchmarks.jar com.inventory.benchmarks.ReservationStressTest [threads] [requests] [stock]
+public class ReservationStressTest {
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int requestCount = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        int initialStock = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+
+        SpringApplication application = new SpringApplication(InventoryManagementApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        ConfigurableApplicationContext context = application.run("--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN", "--group-rules.schedule.interval-ms=86400000",
+                "--spring.datasource.hikari.maximum-pool-size=" + Math.min(threads, 50));
+        boolean passed;
+        try {
+            passed = run(context, threads, requestCount, initialStock);
+        } finally {
+            context.close();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static boolean run(ConfigurableApplicationContext context, int threads, int requestCount, int initialStock)
+            throws InterruptedException {
+        RequestService requestService = context.getBean(RequestService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Long userId = context.getBean(UserRepository.class).findAll().get(0).getId();
+        Long itemId = context.getBean(ItemService.class)
+                .createItem(new ItemDTO(null, "Stress item", "Reservation stress test item", initialStock))
+                .getId();
+
+        List<RequestDTO> newRequests = new ArrayList<>(requestCount);
+        for (int i = 0; i < requestCount; i++) {
+            newRequests.add(new RequestDTO(null, userId, itemId, 1 + i % 3, "Stress " + i, null, null, null, null));
+        }
+        ConcurrentLinkedQueue<RequestDTO> pending = new ConcurrentLinkedQueue<>(requestService.createRequests(newRequests));
+
+        AtomicLong approved = new AtomicLong();
+        AtomicLong approvedQuantity = new AtomicLong();
+        AtomicLong insufficient = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            workers.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                RequestDTO request;
+                while ((request = pending.poll()) != null) {
+                    try {
+                        requestService.updateRequestStatus(request.getId(), "APPROVED", "Stress test");
+                        approved.incrementAndGet();
+                        approvedQuantity.addAndGet(request.getQuantity());
+                    } catch (InsufficientStockException e) {
+                        insufficient.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        long started = System.nanoTime();
+        start.countDown();
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.MINUTES);
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        int finalStock = jdbcTemplate.queryForObject("SELECT quantity FROM items WHERE id = ?", Integer.class, itemId);
+        long approvedRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM requests WHERE item_id = ? AND status = 'APPROVED'", Long.class, itemId);
+        long approvedRowQuantity = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(quantity), 0) FROM requests WHERE item_id = ? AND status = 'APPROVED'", Long.class, itemId);
+
+        System.out.printf("threads=%d requests=%d stock=%d%n", threads, requestCount, initialStock);
+        System.out.printf("approved=%d insufficient=%d failed=%d in %.2f s, %.0f approvals/s%n",
+                approved.get(), insufficient.get(), failed.get(), seconds, approved.get() / seconds);
+        System.out.printf("final stock=%d, approved quantity in database=%d%n", finalStock, approvedRowQuantity);
+
+        boolean passed = true;
+        if (finalStock < 0) {
+            System.out.println("FAIL: stock went negative");
+            passed = false;
+        }
+        if (finalStock + approvedRowQuantity != initialStock) {
+            System.out.println("FAIL: final stock + approved quantity != initial stock (lost update)");
+            passed = false;
+        }
+        if (approvedRows != approved.get() || approvedRowQuantity != approvedQuantity.get()) {
+            System.out.println("FAIL: approvals reported to callers do not match the database");
+            passed = false;
+        }
+        if (failed.get() > 0) {
+            System.out.println("FAIL: approvals failed with errors other than insufficient stock");
+            passed = false;
+        }
+        System.out.println(passed ? "PASS" : "FAIL");
+        return passed;
+    }
+}
+
+// RequestExportBenchmark.java
+package com.inventory.benchmarks;
+
+import com.inventory.InventoryManagementApplication;
+import com.inventory.service.RequestExportService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Exports a million requests into a discarding sink inside a fork capped at -Xmx160m; the rows alone would
+// need several times that if they were materialised, so finishing at all checks that heap use stays flat.
+// The database is file-backed so the table itself does not live in the heap being measured.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx160m")
+public class RequestExportBenchmark {
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"csv", "ndjson"})
+    private String format;
+
+    private ConfigurableApplicationContext context;
+    private RequestExportService exportService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Path directory = Files.createTempDirectory("export-bench");
+        String file = directory.resolve("inventory").toAbsolutePath().toString().replace('\\', '/');
+        SpringApplication application = new SpringApplication(InventoryManagementApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run("--spring.jpa.show-sql=false", "--logging.level.root=WARN",
+                "--group-rules.schedule.interval-ms=86400000",
+                "--spring.datasource.url=jdbc:h2:file:" + file + ";DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.r2dbc.url=r2dbc:h2:file:///" + file + ";DB_CLOSE_ON_EXIT=FALSE");
+        exportService = context.getBean(RequestExportService.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        Long userId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        Long itemId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM items", Long.class);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+        List<Object[]> batch = new ArrayList<>(10_000);
+        for (int i = 1; i <= rows; i++) {
+            batch.add(new Object[] {userId, itemId, 1 + i % 5, "Export benchmark request " + i,
+                    Timestamp.valueOf(start.plusSeconds(i))});
+            if (batch.size() == 10_000 || i == rows) {
+                List<Object[]> chunk = batch;
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                        "INSERT INTO requests (id, user_id, item_id, quantity, reason, status, request_date) " +
+                        "VALUES (NEXT VALUE FOR request_seq, ?, ?, ?, ?, 'PENDING', ?)", chunk));
+                batch = new ArrayList<>(10_000);
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeaks() {
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportPeak() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        System.out.printf("%n  peak heap during export: %d MB%n", peak / (1024 * 1024));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long export() throws Exception {
+        long exported = exportService.export(format, null, null, null, false, OutputStream.nullOutputStream());
+        if (exported < rows) {
+            throw new IllegalStateException("Exported " + exported + " rows, expected at least " + rows);
+        }
+        return exported;
+    }
+}
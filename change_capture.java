@@ -0,0 +1,409 @@
+// ChangeRingBuffer.java
+package com.inventory.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Bounded multi-producer/multi-consumer ring buffer; each slot carries a sequence number so
+// producers and consumers coordinate with a single CAS instead of a lock
+public class ChangeRingBuffer<E> {
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private final AtomicLong dequeuePosition = new AtomicLong();
+
+    public ChangeRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    // Returns false when the buffer is full
+    public boolean offer(E element) {
+        while (true) {
+            long position = enqueuePosition.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+        }
+    }
+
+    // Returns null when the buffer is empty
+    public E poll() {
+        while (true) {
+            long position = dequeuePosition.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    E element = slots.get(index);
+                    slots.set(index, null);
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+            } else if (difference < 0) {
+                return null;
+            }
+        }
+    }
+
+    public int size() {
+        return (int) Math.max(0, enqueuePosition.get() - dequeuePosition.get());
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
+
+// ChangeCaptureService.java
+package com.inventory.service;
+
+import com.inventory.model.UserGroupRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+@Service
+public class ChangeCaptureService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeCaptureService.class);
+    private static final int DRAIN_BATCH = 256;
+
+    @Autowired
+    private RuleEngine ruleEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${change-capture.buffer-size:16384}")
+    private int bufferSize;
+
+    private ChangeRingBuffer<RowChange> buffer;
+    private Thread consumer;
+    private volatile boolean consumerParked;
+    private volatile boolean stopped;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final AtomicLong rulesMatched = new AtomicLong();
+    private final AtomicLong highWaterMark = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        buffer = new ChangeRingBuffer<>(Integer.highestOneBit(Math.max(2, bufferSize)));
+        consumer = new Thread(this::consume, "change-capture-consumer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        LockSupport.unpark(consumer);
+    }
+
+    // Called on the committing thread; never blocks, a full buffer drops the change and counts it
+    public void publish(RowChange change) {
+        if (!buffer.offer(change)) {
+            dropped.incrementAndGet();
+            return;
+        }
+        published.incrementAndGet();
+        long depth = buffer.size();
+        if (depth > highWaterMark.get()) {
+            highWaterMark.accumulateAndGet(depth, Math::max);
+        }
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    // For writes that bypass Hibernate events (JPQL bulk updates); published once the transaction commits
+    public void publishAfterCommit(RowChange change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(change);
+                }
+            });
+        } else {
+            publish(change);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("capacity", buffer.capacity());
+        stats.put("depth", buffer.size());
+        stats.put("highWaterMark", highWaterMark.get());
+        stats.put("published", published.get());
+        stats.put("dropped", dropped.get());
+        stats.put("consumed", consumed.get());
+        stats.put("rulesMatched", rulesMatched.get());
+        return stats;
+    }
+
+    private void consume() {
+        List<RowChange> batch = new ArrayList<>(DRAIN_BATCH);
+        while (!stopped) {
+            RowChange change;
+            while (batch.size() < DRAIN_BATCH && (change = buffer.poll()) != null) {
+                batch.add(change);
+            }
+            if (batch.isEmpty()) {
+                consumerParked = true;
+                if (buffer.size() == 0) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+                }
+                consumerParked = false;
+                continue;
+            }
+            try {
+                apply(batch);
+            } catch (RuntimeException e) {
+                log.error("Failed to apply {} captured changes", batch.size(), e);
+            }
+            consumed.addAndGet(batch.size());
+            batch.clear();
+        }
+    }
+
+    // ON_CHANGE rules (and IMMEDIATE rules for new rows) update the owning user's group membership with the
+    // same semantics as GroupRuleScheduler: rules fold in rule_order, CLASSIFICATION sets membership to the
+    // match result, ACTIVATION only adds and DEACTIVATION only removes. Only the final decision per
+    // user and group is written, so a later rule always wins over an earlier one.
+    private void apply(List<RowChange> changes) {
+        Map<List<Long>, Boolean> decisions = new LinkedHashMap<>();
+        for (RowChange change : changes) {
+            Long userId = owningUser(change);
+            if (userId == null) {
+                continue;
+            }
+            boolean created = change.isCreated();
+            for (CompiledRule rule : ruleEngine.candidates(change)) {
+                boolean triggered = rule.getTriggerType() == UserGroupRule.TriggerType.ON_CHANGE
+                        || (created && rule.getTriggerType() == UserGroupRule.TriggerType.IMMEDIATE);
+                if (!triggered) {
+                    continue;
+                }
+                boolean matches = rule.matches(change);
+                if (matches) {
+                    rulesMatched.incrementAndGet();
+                }
+                List<Long> key = List.of(userId, rule.getGroupId());
+                switch (rule.getRuleType()) {
+                    case CLASSIFICATION:
+                        decisions.put(key, matches);
+                        break;
+                    case ACTIVATION:
+                        if (matches) {
+                            decisions.put(key, true);
+                        }
+                        break;
+                    case DEACTIVATION:
+                        if (matches) {
+                            decisions.put(key, false);
+                        }
+                        break;
+                }
+            }
+        }
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        decisions.forEach((key, member) -> {
+            Long userId = key.get(0);
+            Long groupId = key.get(1);
+            if (member) {
+                inserts.add(new Object[] {userId, groupId, now, userId, groupId});
+            } else {
+                deletes.add(new Object[] {userId, groupId});
+            }
+        });
+
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM user_group_members WHERE user_id = ? AND group_id = ?", deletes);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO user_group_members (user_id, group_id, assigned_date) " +
+                    "SELECT ?, ?, ? WHERE NOT EXISTS " +
+                    "(SELECT 1 FROM user_group_members WHERE user_id = ? AND group_id = ?)", inserts);
+        }
+    }
+
+    private Long owningUser(RowChange change) {
+        switch (change.getTableName()) {
+            case "users":
+                return change.getRowId();
+            case "requests":
+                Object userId = change.getNewValue("user_id");
+                return userId instanceof Number ? ((Number) userId).longValue() : null;
+            default:
+                return null;
+        }
+    }
+}
+
+// ChangeCaptureListener.java
+package com.inventory.config;
+
+import com.inventory.model.Item;
+import com.inventory.model.Request;
+import com.inventory.model.User;
+import com.inventory.service.ChangeCaptureService;
+import com.inventory.service.RowChange;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+// Turns committed User/Item/Request writes into column-level RowChanges for the rule engine
+@Component
+public class ChangeCaptureListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private static final Set<Class<?>> CAPTURED = Set.of(User.class, Item.class, Request.class);
+    private static final Set<String> EXCLUDED_COLUMNS = Set.of("password");
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ChangeCaptureService changeCaptureService;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return CAPTURED.contains(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            AbstractEntityPersister persister = (AbstractEntityPersister) event.getPersister();
+            changeCaptureService.publish(new RowChange(persister.getTableName(), toId(event.getId()),
+                    columns(persister, event.getId(), event.getState()), null));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (requiresPostCommitHandling(event.getPersister()) && event.getOldState() != null) {
+            AbstractEntityPersister persister = (AbstractEntityPersister) event.getPersister();
+            changeCaptureService.publish(new RowChange(persister.getTableName(), toId(event.getId()),
+                    columns(persister, event.getId(), event.getState()),
+                    columns(persister, event.getId(), event.getOldState())));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            AbstractEntityPersister persister = (AbstractEntityPersister) event.getPersister();
+            Map<String, Object> deleted = new HashMap<>();
+            deleted.put("id", event.getId());
+            changeCaptureService.publish(new RowChange(persister.getTableName(), toId(event.getId()), deleted,
+                    columns(persister, event.getId(), event.getDeletedState())));
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private Map<String, Object> columns(AbstractEntityPersister persister, Object id, Object[] state) {
+        String[] properties = persister.getPropertyNames();
+        Map<String, Object> values = new HashMap<>(properties.length * 2);
+        values.put(persister.getIdentifierColumnNames()[0], id);
+        for (int i = 0; i < properties.length; i++) {
+            String column = persister.getPropertyColumnNames(i)[0];
+            if (!EXCLUDED_COLUMNS.contains(column)) {
+                values.put(column, toColumnValue(state[i]));
+            }
+        }
+        return values;
+    }
+
+    // Associations are recorded as their foreign key value
+    private Object toColumnValue(Object value) {
+        if (value instanceof User) {
+            return ((User) value).getId();
+        }
+        if (value instanceof Item) {
+            return ((Item) value).getId();
+        }
+        return value;
+    }
+
+    private Long toId(Object id) {
+        return id instanceof Number ? ((Number) id).longValue() : null;
+    }
+}
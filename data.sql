@@ -3,18 +3,22 @@ CREATE TABLE users (
     username VARCHAR2(255) UNIQUE NOT NULL,
     password VARCHAR2(255) NOT NULL,
     name VARCHAR2(255) NOT NULL,
-    role VARCHAR2(20) CHECK (role IN ('EMPLOYEE', 'ADMIN')) NOT NULL
+    role VARCHAR2(20) CHECK (role IN ('EMPLOYEE', 'ADMIN')) NOT NULL,
+    last_modified TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
 CREATE TABLE items (
     id NUMBER GENERATED BY DEFAULT ON NULL AS IDENTITY PRIMARY KEY,
     name VARCHAR2(255) NOT NULL,
     description CLOB,
-    quantity NUMBER CHECK (quantity >= 0)
+    quantity NUMBER CHECK (quantity >= 0),
+    version NUMBER DEFAULT 0 NOT NULL
 );
 
+CREATE SEQUENCE request_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE requests (
-    id NUMBER GENERATED BY DEFAULT ON NULL AS IDENTITY PRIMARY KEY,
+    id NUMBER DEFAULT request_seq.NEXTVAL PRIMARY KEY,
 
     user_id NUMBER NOT NULL,
     item_id NUMBER NOT NULL,
@@ -31,4 +35,31 @@ CREATE TABLE requests (
 
     CONSTRAINT fk_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
     CONSTRAINT fk_item FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE
-);
\ No newline at end of file
+);
+
+CREATE INDEX idx_requests_date_id ON requests (request_date, id);
+CREATE INDEX idx_requests_status_date_id ON requests (status, request_date, id);
+CREATE INDEX idx_users_last_modified ON users (last_modified);
+CREATE INDEX idx_items_name ON items (name);
+
+CREATE TABLE request_status_counters (
+    id NUMBER GENERATED BY DEFAULT ON NULL AS IDENTITY PRIMARY KEY,
+    status VARCHAR2(20) NOT NULL,
+    stripe NUMBER NOT NULL,
+    request_count NUMBER DEFAULT 0 NOT NULL,
+    CONSTRAINT uq_status_counters UNIQUE (status, stripe)
+);
+
+CREATE TABLE request_demand_rollups (
+    id NUMBER GENERATED BY DEFAULT ON NULL AS IDENTITY PRIMARY KEY,
+    rollup_date DATE NOT NULL,
+    dimension VARCHAR2(10) CHECK (dimension IN ('ITEM', 'USER')) NOT NULL,
+    dimension_id NUMBER NOT NULL,
+    requested_count NUMBER DEFAULT 0 NOT NULL,
+    requested_quantity NUMBER DEFAULT 0 NOT NULL,
+    approved_count NUMBER DEFAULT 0 NOT NULL,
+    approved_quantity NUMBER DEFAULT 0 NOT NULL,
+    CONSTRAINT uq_demand_rollups UNIQUE (rollup_date, dimension, dimension_id)
+);
+
+CREATE INDEX idx_demand_rollups_dimension_date ON request_demand_rollups (dimension, rollup_date);
@@ -0,0 +1,64 @@
+#!/usr/bin/env bash
+# Fast-startup mode: AOT-processed context, AppCDS archive and a file-backed H2 snapshot.
+#
+#   ./fast_startup.sh build             package with AOT, write the H2 snapshot, validate it and train the CDS archive
+#   ./fast_startup.sh run               start in fast-startup mode
+#   ./fast_startup.sh benchmark [runs]  time-to-first-request for the default and fast-startup configurations
+set -euo pipefail
+
+APP_DIR=target/fast-startup
+CP="$APP_DIR/BOOT-INF/classes:$APP_DIR/BOOT-INF/lib/*"
+MAIN=com.inventory.InventoryManagementApplication
+FAST_OPTS=(-XX:SharedArchiveFile="$APP_DIR/app.jsa" -Xshare:auto -Dspring.aot.enabled=true)
+PROBE_URL=http://localhost:8080/actuator/health
+REPORT=target/startup-report.ndjson
+
+build() {
+    mvn -B -Pfast-startup package -DskipTests
+    rm -rf "$APP_DIR" && mkdir -p "$APP_DIR"
+    (cd "$APP_DIR" && jar -xf ../inventory-management-1.0.0-exec.jar)
+
+    # Schema from the entity model plus seed data, written once
+    rm -rf data && mkdir -p data
+    java -cp "$CP" "$MAIN" --spring.profiles.active=fast-startup,snapshot
+
+    # Training run: validates the snapshot against the entities and records the loaded classes
+    java -XX:ArchiveClassesAtExit="$APP_DIR/app.jsa" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+        -cp "$CP" "$MAIN" --spring.profiles.active=fast-startup --spring.jpa.hibernate.ddl-auto=validate
+}
+
+run() {
+    exec java "${FAST_OPTS[@]}" -cp "$CP" "$MAIN" --spring.profiles.active=fast-startup
+}
+
+# Prints milliseconds from process launch until the first successful HTTP response
+time_to_first_request() {
+    local start end pid
+    start=$(date +%s%N)
+    "$@" > /dev/null 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$PROBE_URL"; do
+        sleep 0.02
+    done
+    end=$(date +%s%N)
+    kill "$pid" && wait "$pid" 2>/dev/null || true
+    echo $(( (end - start) / 1000000 ))
+}
+
+benchmark() {
+    local runs=${1:-5}
+    mkdir -p target && : > "$REPORT"
+    for i in $(seq 1 "$runs"); do
+        ms=$(time_to_first_request java -cp "$CP" "$MAIN")
+        echo "{\"mode\":\"default\",\"run\":$i,\"timeToFirstRequestMillis\":$ms}" | tee -a "$REPORT"
+        ms=$(time_to_first_request java "${FAST_OPTS[@]}" -cp "$CP" "$MAIN" --spring.profiles.active=fast-startup)
+        echo "{\"mode\":\"fast-startup\",\"run\":$i,\"timeToFirstRequestMillis\":$ms}" | tee -a "$REPORT"
+    done
+}
+
+case "${1:-}" in
+    build) build ;;
+    run) run ;;
+    benchmark) benchmark "${2:-5}" ;;
+    *) echo "Usage: $0 build | run | benchmark [runs]" >&2; exit 1 ;;
+esac
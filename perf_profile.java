@@ -0,0 +1,522 @@
+// PerfDataInitializer.java
+package com.inventory.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Generates production-sized data for the perf profile with JDBC batches, one transaction per batch.
+// Popular users and items are skewed towards low ids and request dates towards the recent past.
+@Component
+@Profile("perf")
+@Order(10)
+public class PerfDataInitializer implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PerfDataInitializer.class);
+
+    public static final String USERNAME_PREFIX = "perf_user_";
+    public static final String PASSWORD = "perf123";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${perf.data.users:50000}")
+    private int userCount;
+
+    @Value("${perf.data.items:100000}")
+    private int itemCount;
+
+    @Value("${perf.data.requests:5000000}")
+    private long requestCount;
+
+    @Value("${perf.data.batch-size:10000}")
+    private int batchSize;
+
+    @Value("${perf.data.seed:42}")
+    private long seed;
+
+    @Override
+    public void run(String... args) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE username LIKE ?", Long.class,
+                USERNAME_PREFIX + "%");
+        if (existing != null && existing > 0) {
+            log.info("Perf dataset already present ({} generated users), skipping generation", existing);
+            return;
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        long start = System.nanoTime();
+        generateUsers();
+        generateItems(random);
+        long[] userIds = ids("users", "role = 'EMPLOYEE'");
+        long[] itemIds = ids("items", null);
+        generateRequests(random, userIds, itemIds);
+        log.info("Generated {} users, {} items and {} requests in {} s", userCount, itemCount, requestCount,
+                (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    // BCrypt is deliberately slow, so every generated user shares one hash
+    private void generateUsers() {
+        String password = passwordEncoder.encode(PASSWORD);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 1; i <= userCount; i++) {
+            batch.add(new Object[] {USERNAME_PREFIX + i, password, "Perf User " + i, "EMPLOYEE", now});
+            if (batch.size() == batchSize || i == userCount) {
+                flush("INSERT INTO users (username, password, name, role, last_modified) VALUES (?, ?, ?, ?, ?)", batch);
+            }
+        }
+    }
+
+    private void generateItems(SplittableRandom random) {
+        String[] categories = {"Laptop", "Monitor", "Keyboard", "Mouse", "Headset", "Cable", "Dock", "Chair", "Desk", "Phone"};
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 1; i <= itemCount; i++) {
+            String category = categories[random.nextInt(categories.length)];
+            batch.add(new Object[] {category + " " + i, category + " model " + i + " for office use", random.nextInt(500)});
+            if (batch.size() == batchSize || i == itemCount) {
+                flush("INSERT INTO items (name, description, quantity, version) VALUES (?, ?, ?, 0)", batch);
+            }
+        }
+    }
+
+    // Ids come from request_seq so Hibernate's pooled optimizer never hands out a generated id
+    private void generateRequests(SplittableRandom random, long[] userIds, long[] itemIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (long i = 1; i <= requestCount; i++) {
+            // Exponential age with a 60 day mean, capped at two years
+            long ageMinutes = Math.min((long) (-Math.log(1 - random.nextDouble()) * 60 * 24 * 60), 2L * 365 * 24 * 60);
+            LocalDateTime requestDate = now.minusMinutes(ageMinutes);
+            String status = status(random, ageMinutes < 14 * 24 * 60);
+            Timestamp responseDate = "PENDING".equals(status) ? null
+                    : Timestamp.valueOf(requestDate.plusMinutes(30 + random.nextInt(3 * 24 * 60)));
+            if (responseDate != null && responseDate.toLocalDateTime().isAfter(now)) {
+                responseDate = Timestamp.valueOf(now);
+            }
+
+            batch.add(new Object[] {
+                    skewed(random, userIds, 2), skewed(random, itemIds, 3), 1 + random.nextInt(5),
+                    "Generated request " + i, status, Timestamp.valueOf(requestDate), responseDate,
+                    responseDate == null ? null : "Processed"
+            });
+            if (batch.size() == batchSize || i == requestCount) {
+                flush("INSERT INTO requests (id, user_id, item_id, quantity, reason, status, request_date, " +
+                        "response_date, admin_comments) VALUES (NEXT VALUE FOR request_seq, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+            }
+        }
+    }
+
+    // Recent requests are mostly still open, older ones mostly decided
+    private static String status(SplittableRandom random, boolean recent) {
+        int roll = random.nextInt(100);
+        if (recent) {
+            return roll < 50 ? "PENDING" : roll < 85 ? "APPROVED" : roll < 95 ? "REJECTED" : "CANCELLED";
+        }
+        return roll < 2 ? "PENDING" : roll < 72 ? "APPROVED" : roll < 92 ? "REJECTED" : "CANCELLED";
+    }
+
+    // Higher exponents concentrate more of the traffic on the first ids
+    private static long skewed(SplittableRandom random, long[] ids, int exponent) {
+        return ids[(int) (ids.length * Math.pow(random.nextDouble(), exponent))];
+    }
+
+    private long[] ids(String table, String where) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM " + table + (where == null ? "" : " WHERE " + where) + " ORDER BY id", Long.class);
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void flush(String sql, List<Object[]> batch) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, batch));
+        batch.clear();
+    }
+}
+
+// LatencyHistogram.java
+package com.inventory.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Log-linear buckets over microseconds: 16 sub-buckets per power of two, so percentiles are within ~6%
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray((64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos / 1000);
+        counts.incrementAndGet(index(micros));
+        total.incrementAndGet();
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    public long getCount() {
+        return total.get();
+    }
+
+    public long getMaxMicros() {
+        return max.get();
+    }
+
+    // Upper bound of the bucket holding the requested percentile
+    public long percentileMicros(double percentile) {
+        long count = total.get();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100.0 * count);
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    private static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
+
+// PerfLoadDriver.java
+package com.inventory.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// Replays a weighted operation mix against the running API at a fixed arrival rate. Latency is
+// measured from each operation's scheduled start, so a stalled server is not hidden by the driver
+// backing off (coordinated omission). Results are written as JSON to perf.load.report.
+@Component
+@Profile("perf")
+public class PerfLoadDriver {
+
+    private static final Logger log = LoggerFactory.getLogger(PerfLoadDriver.class);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${perf.load.enabled:true}")
+    private boolean enabled;
+
+    @Value("${perf.load.duration-seconds:60}")
+    private int durationSeconds;
+
+    @Value("${perf.load.target-rps:200}")
+    private int targetRps;
+
+    @Value("${perf.load.threads:32}")
+    private int threads;
+
+    @Value("${perf.load.mix:login:5,browse:55,create:20,approve:15,cancel:5}")
+    private String mix;
+
+    @Value("${perf.load.report:target/perf-report.json}")
+    private String reportPath;
+
+    @Value("${perf.data.users:50000}")
+    private int userCount;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final Map<String, LatencyHistogram> latencies = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> errors = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> skipped = new LinkedHashMap<>();
+    private final ConcurrentLinkedQueue<Long> pendingRequestIds = new ConcurrentLinkedQueue<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile int port;
+    private volatile boolean stopped;
+    private String adminToken;
+    private String employeeToken;
+    private long[] employeeIds;
+    private long[] itemIds;
+
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        port = event.getWebServer().getPort();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        Thread driver = new Thread(this::runLoad, "perf-load-driver");
+        driver.setDaemon(true);
+        driver.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+    }
+
+    private void runLoad() {
+        List<String> operations = new ArrayList<>();
+        List<Integer> cumulativeWeights = new ArrayList<>();
+        int totalWeight = 0;
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            totalWeight += Integer.parseInt(parts[1].trim());
+            operations.add(parts[0].trim());
+            cumulativeWeights.add(totalWeight);
+            latencies.put(parts[0].trim(), new LatencyHistogram());
+            errors.put(parts[0].trim(), new AtomicLong());
+            skipped.put(parts[0].trim(), new AtomicLong());
+        }
+
+        // Create bodies draw from ids that exist, whatever gaps generation or earlier runs left
+        employeeIds = ids("SELECT id FROM users WHERE role = 'EMPLOYEE'");
+        itemIds = ids("SELECT id FROM items");
+        if (employeeIds.length == 0 || itemIds.length == 0) {
+            log.error("Perf load driver found no employees or items, not starting");
+            return;
+        }
+
+        try {
+            adminToken = token("admin", "admin123");
+            employeeToken = token(PerfDataInitializer.USERNAME_PREFIX + 1, PerfDataInitializer.PASSWORD);
+        } catch (Exception e) {
+            log.error("Perf load driver could not log in, not starting", e);
+            return;
+        }
+
+        // Operations that cannot be started within the queue's slack are counted as dropped
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 16), new ThreadPoolExecutor.AbortPolicy());
+        long intervalNanos = 1_000_000_000L / Math.max(1, targetRps);
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + durationSeconds * 1_000_000_000L;
+        log.info("Perf load driver started: {} rps for {} s, mix {}", targetRps, durationSeconds, mix);
+
+        long scheduled = startNanos;
+        while (!stopped && scheduled < endNanos) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+            int index = 0;
+            while (cumulativeWeights.get(index) <= roll) {
+                index++;
+            }
+            String operation = operations.get(index);
+            long intendedStart = scheduled;
+            try {
+                workers.execute(() -> execute(operation, intendedStart));
+            } catch (RejectedExecutionException e) {
+                dropped.incrementAndGet();
+            }
+            scheduled += intervalNanos;
+        }
+
+        workers.shutdown();
+        try {
+            workers.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeReport((System.nanoTime() - startNanos) / 1_000_000_000.0);
+    }
+
+    private void execute(String operation, long intendedStart) {
+        Boolean ok;
+        try {
+            ok = perform(operation);
+        } catch (Exception e) {
+            ok = false;
+        }
+        if (ok == null) {
+            // No HTTP call was made, so it is neither throughput nor latency
+            skipped.get(operation).incrementAndGet();
+            return;
+        }
+        latencies.get(operation).record(System.nanoTime() - intendedStart);
+        if (!ok) {
+            errors.get(operation).incrementAndGet();
+        }
+    }
+
+    // Null when the operation had nothing to act on and sent no request
+    private Boolean perform(String operation) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (operation) {
+            case "login": {
+                String username = PerfDataInitializer.USERNAME_PREFIX + (1 + random.nextInt(userCount));
+                return send("POST", "/api/auth/login", null,
+                        Map.of("username", username, "password", PerfDataInitializer.PASSWORD)).statusCode() == 200;
+            }
+            case "browse": {
+                String query = random.nextBoolean() ? "laptop " + random.nextInt(1000) : "mon";
+                return send("GET", "/api/items/search?q=" + query.replace(" ", "+") + "&limit=20", employeeToken, null)
+                        .statusCode() == 200;
+            }
+            case "list": {
+                return send("GET", "/api/requests?limit=50", adminToken, null).statusCode() == 200;
+            }
+            case "create": {
+                Map<String, Object> body = Map.of("userId", employeeIds[random.nextInt(employeeIds.length)],
+                        "itemId", itemIds[random.nextInt(itemIds.length)], "quantity", 1, "reason", "Load test");
+                // POST /api/requests is restricted to admins
+                HttpResponse<String> response = send("POST", "/api/requests", adminToken, body);
+                if (response.statusCode() == 200) {
+                    pendingRequestIds.add(objectMapper.readTree(response.body()).get("id").asLong());
+                    return true;
+                }
+                return false;
+            }
+            case "approve":
+            case "cancel": {
+                Long id = pendingRequestIds.poll();
+                if (id == null) {
+                    return null;
+                }
+                String path = "/api/requests/" + id + ("approve".equals(operation) ? "/approve" : "/cancel");
+                int status = send("PUT", path, "approve".equals(operation) ? adminToken : employeeToken,
+                        Map.of("comments", "Load test")).statusCode();
+                // 409 means stock ran out or another operation won the transition, both expected under load
+                return status == 200 || status == 409;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown perf operation " + operation);
+        }
+    }
+
+    private HttpResponse<String> send(String method, String path, String token, Object body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        request.method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private long[] ids(String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private String token(String username, String password) throws Exception {
+        HttpResponse<String> response = send("POST", "/api/auth/login", null,
+                Map.of("username", username, "password", password));
+        JsonNode body = objectMapper.readTree(response.body());
+        if (response.statusCode() != 200 || !body.hasNonNull("token")) {
+            throw new IllegalStateException("Login failed for " + username + ": " + response.statusCode());
+        }
+        return body.get("token").asText();
+    }
+
+    private void writeReport(double elapsedSeconds) {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        latencies.forEach((operation, histogram) -> {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", histogram.getCount());
+            stats.put("errors", errors.get(operation).get());
+            stats.put("skipped", skipped.get(operation).get());
+            stats.put("throughputPerSecond", histogram.getCount() / elapsedSeconds);
+            stats.put("p50Millis", histogram.percentileMicros(50) / 1000.0);
+            stats.put("p99Millis", histogram.percentileMicros(99) / 1000.0);
+            stats.put("p999Millis", histogram.percentileMicros(99.9) / 1000.0);
+            stats.put("maxMillis", histogram.getMaxMicros() / 1000.0);
+            endpoints.put(operation, stats);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", LocalDateTime.now().toString());
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("targetRps", targetRps);
+        report.put("mix", mix);
+        report.put("dropped", dropped.get());
+        report.put("endpoints", endpoints);
+
+        try {
+            File file = new File(reportPath);
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            objectMapper.writer().with(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+            log.info("Perf load report written to {}: {}", file.getAbsolutePath(), endpoints);
+        } catch (Exception e) {
+            log.error("Could not write perf load report", e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+// RequestStatusCounter.java
+package com.inventory.model;
+
+import jakarta.persistence.*;
+
+// One row per status and stripe; the count for a status is the sum over its stripes
+@Entity
+@Table(name = "request_status_counters",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"status", "stripe"}))
+public class RequestStatusCounter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Request.Status status;
+
+    @Column(nullable = false)
+    private int stripe;
+
+    @Column(name = "request_count", nullable = false)
+    private long requestCount;
+
+    // Constructors
+    public RequestStatusCounter() {}
+
+    public RequestStatusCounter(Request.Status status, int stripe) {
+        this.status = status;
+        this.stripe = stripe;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Request.Status getStatus() { return status; }
+    public void setStatus(Request.Status status) { this.status = status; }
+
+    public int getStripe() { return stripe; }
+    public void setStripe(int stripe) { this.stripe = stripe; }
+
+    public long getRequestCount() { return requestCount; }
+    public void setRequestCount(long requestCount) { this.requestCount = requestCount; }
+}
+
+// DemandRollup.java
+package com.inventory.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+// Requested and approved totals per request day for one item or one user. Approvals are booked
+// against the day the request was made, so the table can always be recomputed from requests alone.
+@Entity
+@Table(name = "request_demand_rollups",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"rollup_date", "dimension", "dimension_id"}),
+       indexes = @Index(name = "idx_demand_rollups_dimension_date", columnList = "dimension, rollup_date"))
+public class DemandRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Dimension dimension;
+
+    @Column(name = "dimension_id", nullable = false)
+    private Long dimensionId;
+
+    @Column(name = "requested_count", nullable = false)
+    private long requestedCount;
+
+    @Column(name = "requested_quantity", nullable = false)
+    private long requestedQuantity;
+
+    @Column(name = "approved_count", nullable = false)
+    private long approvedCount;
+
+    @Column(name = "approved_quantity", nullable = false)
+    private long approvedQuantity;
+
+    public enum Dimension {
+        ITEM, USER
+    }
+
+    // Constructors
+    public DemandRollup() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public LocalDate getRollupDate() { return rollupDate; }
+    public void setRollupDate(LocalDate rollupDate) { this.rollupDate = rollupDate; }
+
+    public Dimension getDimension() { return dimension; }
+    public void setDimension(Dimension dimension) { this.dimension = dimension; }
+
+    public Long getDimensionId() { return dimensionId; }
+    public void setDimensionId(Long dimensionId) { this.dimensionId = dimensionId; }
+
+    public long getRequestedCount() { return requestedCount; }
+    public void setRequestedCount(long requestedCount) { this.requestedCount = requestedCount; }
+
+    public long getRequestedQuantity() { return requestedQuantity; }
+    public void setRequestedQuantity(long requestedQuantity) { this.requestedQuantity = requestedQuantity; }
+
+    public long getApprovedCount() { return approvedCount; }
+    public void setApprovedCount(long approvedCount) { this.approvedCount = approvedCount; }
+
+    public long getApprovedQuantity() { return approvedQuantity; }
+    public void setApprovedQuantity(long approvedQuantity) { this.approvedQuantity = approvedQuantity; }
+}
+
+// RequestStatusCounterRepository.java
+package com.inventory.repository;
+
+import com.inventory.model.RequestStatusCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.util.List;
+
+public interface RequestStatusCounterRepository extends JpaRepository<RequestStatusCounter, Long> {
+    // At most (statuses x stripes) rows, whatever the size of requests
+    @Query("SELECT c.status, SUM(c.requestCount) FROM RequestStatusCounter c GROUP BY c.status")
+    List<Object[]> sumByStatus();
+}
+
+// DemandRollupRepository.java
+package com.inventory.repository;
+
+import com.inventory.dto.DemandStatDTO;
+import com.inventory.model.DemandRollup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DemandRollupRepository extends JpaRepository<DemandRollup, Long> {
+    @Query("SELECT new com.inventory.dto.DemandStatDTO(r.dimensionId, SUM(r.requestedCount), SUM(r.requestedQuantity), " +
+           "SUM(r.approvedCount), SUM(r.approvedQuantity)) FROM DemandRollup r " +
+           "WHERE r.dimension = :dimension AND r.rollupDate BETWEEN :from AND :to " +
+           "GROUP BY r.dimensionId ORDER BY SUM(r.requestedQuantity) DESC, r.dimensionId")
+    List<DemandStatDTO> findTopByRequestedQuantity(@Param("dimension") DemandRollup.Dimension dimension,
+                                                   @Param("from") LocalDate from,
+                                                   @Param("to") LocalDate to,
+                                                   Pageable pageable);
+}
@@ -0,0 +1,336 @@
+// RowChange.java
+package com.inventory.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// A single row as seen by the rule engine; oldValues is null for a newly created row
+public class RowChange {
+    private final String tableName;
+    private final Long rowId;
+    private final Map<String, Object> newValues;
+    private final Map<String, Object> oldValues;
+    private final Set<String> changedColumns;
+
+    public RowChange(String tableName, Long rowId, Map<String, Object> newValues, Map<String, Object> oldValues) {
+        this.tableName = tableName.toLowerCase(Locale.ROOT);
+        this.rowId = rowId;
+        this.newValues = normalize(newValues);
+        this.oldValues = oldValues == null ? null : normalize(oldValues);
+
+        if (this.oldValues == null) {
+            this.changedColumns = this.newValues.keySet();
+        } else {
+            Set<String> changed = new HashSet<>();
+            for (Map.Entry<String, Object> entry : this.newValues.entrySet()) {
+                if (!Objects.equals(entry.getValue(), this.oldValues.get(entry.getKey()))) {
+                    changed.add(entry.getKey());
+                }
+            }
+            this.changedColumns = Collections.unmodifiableSet(changed);
+        }
+    }
+
+    public String getTableName() { return tableName; }
+    public Long getRowId() { return rowId; }
+    public Set<String> getChangedColumns() { return changedColumns; }
+
+    public Object getNewValue(String column) { return newValues.get(column); }
+    public Object getOldValue(String column) { return oldValues == null ? null : oldValues.get(column); }
+    public boolean isChanged(String column) { return oldValues != null && changedColumns.contains(column); }
+    public boolean isCreated() { return oldValues == null; }
+
+    private static Map<String, Object> normalize(Map<String, Object> values) {
+        Map<String, Object> normalized = new HashMap<>(values.size() * 2);
+        values.forEach((column, value) -> normalized.put(column.toLowerCase(Locale.ROOT), value));
+        return Collections.unmodifiableMap(normalized);
+    }
+}
+
+// CompiledRule.java
+package com.inventory.service;
+
+import com.inventory.model.UserGroupRule;
+
+public class CompiledRule {
+
+    @FunctionalInterface
+    public interface RowPredicate {
+        boolean test(RowChange change);
+    }
+
+    private final int ordinal;
+    private final Long ruleId;
+    private final Long groupId;
+    private final String ruleName;
+    private final UserGroupRule.RuleType ruleType;
+    private final UserGroupRule.TriggerType triggerType;
+    private final RowPredicate predicate;
+
+    CompiledRule(int ordinal, Long ruleId, Long groupId, String ruleName, UserGroupRule.RuleType ruleType,
+                 UserGroupRule.TriggerType triggerType, RowPredicate predicate) {
+        this.ordinal = ordinal;
+        this.ruleId = ruleId;
+        this.groupId = groupId;
+        this.ruleName = ruleName;
+        this.ruleType = ruleType;
+        this.triggerType = triggerType;
+        this.predicate = predicate;
+    }
+
+    public boolean matches(RowChange change) {
+        return predicate.test(change);
+    }
+
+    int getOrdinal() { return ordinal; }
+    public Long getRuleId() { return ruleId; }
+    public Long getGroupId() { return groupId; }
+    public String getRuleName() { return ruleName; }
+    public UserGroupRule.RuleType getRuleType() { return ruleType; }
+    public UserGroupRule.TriggerType getTriggerType() { return triggerType; }
+}
+
+// RuleEngine.java
+package com.inventory.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.model.RuleCondition;
+import com.inventory.model.UserGroupRule;
+import com.inventory.repository.UserGroupRuleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class RuleEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(RuleEngine.class);
+
+    @Autowired
+    private UserGroupRuleRepository ruleRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private volatile RuleIndex index = new RuleIndex(List.of(), Map.of());
+
+    // Compiles every active rule once; call again whenever rules or conditions are edited
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void reload() {
+        List<UserGroupRule> rules = new ArrayList<>(ruleRepository.findActiveWithConditions());
+        rules.sort(Comparator.comparing(UserGroupRule::getRuleOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(UserGroupRule::getId));
+
+        List<CompiledRule> compiled = new ArrayList<>(rules.size());
+        Map<String, Map<String, List<CompiledRule>>> byColumn = new HashMap<>();
+        for (UserGroupRule rule : rules) {
+            List<RuleCondition> conditions = rule.getConditions().stream()
+                    .filter(condition -> !Boolean.FALSE.equals(condition.getActive()))
+                    .sorted(Comparator.comparing(RuleCondition::getConditionOrder,
+                            Comparator.nullsLast(Comparator.naturalOrder())))
+                    .toList();
+            if (conditions.isEmpty()) {
+                continue;
+            }
+            try {
+                CompiledRule compiledRule = new CompiledRule(compiled.size(), rule.getId(), rule.getGroup().getId(),
+                        rule.getRuleName(), rule.getRuleType(), rule.getTriggerType(), compile(rule, conditions));
+                compiled.add(compiledRule);
+                for (RuleCondition condition : conditions) {
+                    byColumn.computeIfAbsent(normalize(condition.getTableName()), table -> new HashMap<>())
+                            .computeIfAbsent(normalize(condition.getColumnName()), column -> new ArrayList<>())
+                            .add(compiledRule);
+                }
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping rule {} ({}): {}", rule.getId(), rule.getRuleName(), e.getMessage());
+            }
+        }
+
+        Map<String, Map<String, CompiledRule[]>> frozen = new HashMap<>();
+        byColumn.forEach((table, columns) -> {
+            Map<String, CompiledRule[]> frozenColumns = new HashMap<>();
+            columns.forEach((column, list) -> frozenColumns.put(column,
+                    list.stream().distinct().toArray(CompiledRule[]::new)));
+            frozen.put(table, frozenColumns);
+        });
+        index = new RuleIndex(Collections.unmodifiableList(compiled), frozen);
+        log.info("Compiled {} active group rules", compiled.size());
+    }
+
+    public List<CompiledRule> getRules() {
+        return index.rules;
+    }
+
+    // Only rules that reference one of the row's changed columns are evaluated; results follow rule_order
+    public List<CompiledRule> evaluate(RowChange change) {
+        List<CompiledRule> matches = new ArrayList<>();
+        for (CompiledRule rule : candidates(change)) {
+            if (rule.matches(change)) {
+                matches.add(rule);
+            }
+        }
+        return matches;
+    }
+
+    // Every rule that references one of the row's changed columns, matching or not, in rule_order
+    public List<CompiledRule> candidates(RowChange change) {
+        RuleIndex current = index;
+        Map<String, CompiledRule[]> columns = current.byColumn.get(change.getTableName());
+        if (columns == null) {
+            return List.of();
+        }
+
+        BitSet candidates = new BitSet(current.rules.size());
+        for (String column : change.getChangedColumns()) {
+            CompiledRule[] rules = columns.get(column);
+            if (rules != null) {
+                for (CompiledRule rule : rules) {
+                    candidates.set(rule.getOrdinal());
+                }
+            }
+        }
+
+        List<CompiledRule> rules = new ArrayList<>(candidates.cardinality());
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            rules.add(current.rules.get(i));
+        }
+        return rules;
+    }
+
+    // Conditions are OR-ed groups of AND-ed terms, so AND binds tighter than OR
+    private CompiledRule.RowPredicate compile(UserGroupRule rule, List<RuleCondition> conditions) {
+        String defaultConnector = rule.getLogicalOperator() == null ? "AND" : rule.getLogicalOperator();
+        List<List<CompiledRule.RowPredicate>> groups = new ArrayList<>();
+        List<CompiledRule.RowPredicate> currentGroup = new ArrayList<>();
+        for (int i = 0; i < conditions.size(); i++) {
+            RuleCondition condition = conditions.get(i);
+            String connector = condition.getLogicalConnector() == null ? defaultConnector : condition.getLogicalConnector();
+            if (i > 0 && "OR".equalsIgnoreCase(connector.trim())) {
+                groups.add(currentGroup);
+                currentGroup = new ArrayList<>();
+            }
+            currentGroup.add(compile(condition));
+        }
+        groups.add(currentGroup);
+
+        CompiledRule.RowPredicate[] terms = groups.stream().map(this::and).toArray(CompiledRule.RowPredicate[]::new);
+        if (terms.length == 1) {
+            return terms[0];
+        }
+        return change -> {
+            for (CompiledRule.RowPredicate term : terms) {
+                if (term.test(change)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private CompiledRule.RowPredicate and(List<CompiledRule.RowPredicate> predicates) {
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+        CompiledRule.RowPredicate[] terms = predicates.toArray(CompiledRule.RowPredicate[]::new);
+        return change -> {
+            for (CompiledRule.RowPredicate term : terms) {
+                if (!term.test(change)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    // A condition on another table than the changed row never matches
+    private CompiledRule.RowPredicate compile(RuleCondition condition) {
+        String table = normalize(condition.getTableName());
+        String column = normalize(condition.getColumnName());
+        Set<String> values = parseValues(condition.getConditionValues());
+
+        CompiledRule.RowPredicate test;
+        switch (condition.getOperator().trim().toUpperCase(Locale.ROOT)) {
+            case "=":
+            case "IN":
+                test = change -> values.contains(asString(change.getNewValue(column)));
+                break;
+            case "!=":
+                test = change -> !values.contains(asString(change.getNewValue(column)));
+                break;
+            case "IS_NULL":
+                test = change -> change.getNewValue(column) == null;
+                break;
+            case "IS_NOT_NULL":
+                test = change -> change.getNewValue(column) != null;
+                break;
+            case "CHANGED_FROM":
+                Set<String> from = condition.getPreviousValues() != null
+                        ? parseValues(condition.getPreviousValues()) : values;
+                test = change -> change.isChanged(column) && from.contains(asString(change.getOldValue(column)));
+                break;
+            case "CHANGED_TO":
+                test = change -> change.isChanged(column) && values.contains(asString(change.getNewValue(column)));
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported operator " + condition.getOperator());
+        }
+        return change -> change.getTableName().equals(table) && test.test(change);
+    }
+
+    private Set<String> parseValues(String json) {
+        if (json == null || json.isBlank()) {
+            return Collections.emptySet();
+        }
+        try {
+            List<Object> parsed = objectMapper.readValue(json, new TypeReference<List<Object>>() {});
+            Set<String> values = new HashSet<>(parsed.size() * 2);
+            parsed.forEach(value -> values.add(asString(value)));
+            return values;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid condition values " + json);
+        }
+    }
+
+    private static String asString(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof Enum<?> ? ((Enum<?>) value).name() : value.toString();
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class RuleIndex {
+        private final List<CompiledRule> rules;
+        private final Map<String, Map<String, CompiledRule[]>> byColumn;
+
+        RuleIndex(List<CompiledRule> rules, Map<String, Map<String, CompiledRule[]>> byColumn) {
+            this.rules = rules;
+            this.byColumn = byColumn;
+        }
+    }
+}
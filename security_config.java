@@ -39,13 +39,24 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
+                .requestMatchers("/api/auth/cache-stats").hasRole("ADMIN")
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                .requestMatchers("/api/items/import").hasRole("ADMIN")
+                .requestMatchers("/api/items/low-stock").hasRole("ADMIN")
                 .requestMatchers("/api/items/**").hasAnyRole("EMPLOYEE", "ADMIN")
                 .requestMatchers("/api/requests/user/**").hasAnyRole("EMPLOYEE", "ADMIN")
+                .requestMatchers("/api/reactive/**").hasAnyRole("EMPLOYEE", "ADMIN")
                 .requestMatchers("/api/requests").hasRole("ADMIN")
                 .requestMatchers("/api/requests/*/approve").hasRole("ADMIN")
                 .requestMatchers("/api/requests/*/reject").hasRole("ADMIN")
+                .requestMatchers("/api/requests/bulk-status").hasRole("ADMIN")
+                .requestMatchers("/api/requests/export").hasRole("ADMIN")
+                .requestMatchers("/api/requests/write-pipeline").hasRole("ADMIN")
+                .requestMatchers("/api/group-rules/**").hasRole("ADMIN")
+                .requestMatchers("/api/stats/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .headers(headers -> headers.frameOptions().disable()); // For H2 console
@@ -59,6 +70,7 @@ public class SecurityConfig {
         configuration.setAllowedOriginPatterns(Arrays.asList("http://localhost:4200"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList("ETag", "X-SQL-Stats"));
         configuration.setAllowCredentials(true);
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
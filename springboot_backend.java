@@ -19,7 +19,7 @@
     <name>inventory-management</name>
     
     <properties>
-        <java.version>17</java.version>
+        <java.version>21</java.version>
     </properties>
     
     <dependencies>
@@ -40,7 +40,103 @@
             <groupId>org.springframework.boot</groupId>
             <artifactId>spring-boot-starter-validation</artifactId>
         </dependency>
+        <dependency>
+            <groupId>org.springframework.boot</groupId>
+            <artifactId>spring-boot-starter-actuator</artifactId>
+        </dependency>
+        <dependency>
+            <groupId>org.springframework.boot</groupId>
+            <artifactId>spring-boot-starter-aop</artifactId>
+        </dependency>
+        <dependency>
+            <groupId>io.micrometer</groupId>
+            <artifactId>micrometer-registry-prometheus</artifactId>
+        </dependency>
+        <dependency>
+            <groupId>org.hibernate.orm</groupId>
+            <artifactId>hibernate-micrometer</artifactId>
+        </dependency>
+        <dependency>
+            <groupId>org.springframework.boot</groupId>
+            <artifactId>spring-boot-starter-webflux</artifactId>
+        </dependency>
+        <dependency>
+            <groupId>org.springframework.boot</groupId>
+            <artifactId>spring-boot-starter-data-r2dbc</artifactId>
+        </dependency>
+        <dependency>
+            <groupId>io.r2dbc</groupId>
+            <artifactId>r2dbc-h2</artifactId>
+            <scope>runtime</scope>
+        </dependency>
+        <dependency>
+            <groupId>net.ttddyy</groupId>
+            <artifactId>datasource-proxy</artifactId>
+            <version>1.9</version>
+        </dependency>
+        <dependency>
+            <groupId>com.fasterxml.jackson.dataformat</groupId>
+            <artifactId>jackson-dataformat-cbor</artifactId>
+        </dependency>
+        <dependency>
+            <groupId>com.fasterxml.jackson.dataformat</groupId>
+            <artifactId>jackson-dataformat-smile</artifactId>
+        </dependency>
     </dependencies>
+    
+    <profiles>
+        <!-- mvn -Pfast-startup package: AOT-processed classes plus an executable jar with the exec classifier,
+             leaving the plain jar in place for the benchmarks module. See fast_startup.sh -->
+        <profile>
+            <id>fast-startup</id>
+            <build>
+                <plugins>
+                    <plugin>
+                        <groupId>org.springframework.boot</groupId>
+                        <artifactId>spring-boot-maven-plugin</artifactId>
+                        <configuration>
+                            <classifier>exec</classifier>
+                        </configuration>
+                        <executions>
+                            <execution>
+                                <id>process-aot</id>
+                                <goals>
+                                    <goal>process-aot</goal>
+                                </goals>
+                                <configuration>
+                                    <profiles>
+                                        <profile>fast-startup</profile>
+                                    </profiles>
+                                </configuration>
+                            </execution>
+                        </executions>
+                    </plugin>
+                </plugins>
+            </build>
+        </profile>
+    </profiles>
+</project>
+
+// aggregator/pom.xml
+<?xml version="1.0" encoding="UTF-8"?>
+<!-- Builds the application and the benchmarks module in one reactor: mvn -B -f aggregator/pom.xml verify.
+     The application pom stays a plain jar project, so it cannot aggregate the benchmarks itself. -->
+<project xmlns="http://maven.apache.org/POM/4.0.0"
+         xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+         xsi:schemaLocation="http://maven.apache.org/POM/4.0.0 
+         http://maven.apache.org/xsd/maven-4.0.0.xsd">
+    <modelVersion>4.0.0</modelVersion>
+    
+    <groupId>com.inventory</groupId>
+    <artifactId>inventory-management-aggregator</artifactId>
+    <version>1.0.0</version>
+    <packaging>pom</packaging>
+    <name>inventory-management-aggregator</name>
+    
+    <modules>
+        <module>..</module>
+        <module>../benchmarks</module>
+    </modules>
 </project>
 
 // application.properties
@@ -51,17 +147,97 @@ spring.datasource.password=password
 spring.jpa.database-platform=org.hibernate.dialect.H2Dialect
 spring.h2.console.enabled=true
 spring.jpa.hibernate.ddl-auto=create-drop
-spring.jpa.show-sql=true
+spring.jpa.show-sql=false
+spring.jpa.properties.hibernate.jdbc.batch_size=50
+spring.jpa.properties.hibernate.order_inserts=true
+spring.jpa.properties.hibernate.order_updates=true
+spring.jpa.properties.hibernate.generate_statistics=true
+spring.datasource.hikari.maximum-pool-size=20
+spring.r2dbc.url=r2dbc:h2:mem:///testdb;DB_CLOSE_DELAY=-1
+spring.r2dbc.username=sa
+spring.r2dbc.password=password
+spring.r2dbc.pool.max-size=10
+spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration
 server.port=8080
+spring.task.scheduling.pool.size=2
+spring.mvc.async.request-timeout=600000
+group-rules.schedule.interval-ms=3600000
+group-rules.schedule.chunk-size=1000
+change-capture.buffer-size=16384
+auth.hashing.queue-capacity=100
+auth.login.max-failures=5
+auth.login.lockout-seconds=60
+items.import.chunk-size=5000
+items.import.max-reported-errors=1000
+management.endpoints.web.exposure.include=health,prometheus
+management.metrics.tags.application=inventory-management
+metrics.histogram.endpoints=/api/auth/login,/api/items/search,/api/requests
+sql-budget.slow-query-ms=200
+sql-budget.n-plus-one-threshold=5
+sql-budget.max-statements-per-request=50
+sql-budget.response-header=false
+sql-budget.row-counting=false
+request-stats.rebuild-on-startup=true
+stock-forecast.window-days=14
+stock-forecast.alert-days=7
+stock-forecast.min-available=0
+stock-forecast.reevaluate-interval-ms=60000
+stock-forecast.resync-interval-ms=3600000
+requests.write-pipeline.enabled=true
+requests.write-pipeline.queue-capacity=8192
+requests.write-pipeline.batch-size=200
+requests.write-pipeline.linger-ms=2
+requests.write-pipeline.writers=2
+requests.write-pipeline.shutdown-timeout-ms=10000
+
+// application-virtual.properties
+spring.threads.virtual.enabled=true
+datasource.admission.timeout-ms=30000
+
+// application-fast-startup.properties
+spring.datasource.url=jdbc:h2:file:./data/inventory;DB_CLOSE_ON_EXIT=FALSE
+spring.r2dbc.url=r2dbc:h2:file:///./data/inventory;DB_CLOSE_ON_EXIT=FALSE
+spring.jpa.hibernate.ddl-auto=none
+spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false
+spring.data.jpa.repositories.bootstrap-mode=deferred
+spring.sql.init.mode=never
+spring.jmx.enabled=false
+group-rules.schedule.initial-delay-ms=60000
+request-stats.rebuild-on-startup=false
+
+// application-snapshot.properties
+spring.jpa.hibernate.ddl-auto=create
+spring.main.web-application-type=none
+
+// application-dev.properties
+sql-budget.response-header=true
+sql-budget.slow-query-ms=50
+sql-budget.row-counting=true
+
+// application-perf.properties
+spring.datasource.url=jdbc:h2:mem:perfdb;DB_CLOSE_DELAY=-1
+spring.r2dbc.url=r2dbc:h2:mem:///perfdb;DB_CLOSE_DELAY=-1
+perf.data.users=50000
+perf.data.items=100000
+perf.data.requests=5000000
+perf.data.batch-size=10000
+perf.data.seed=42
+perf.load.enabled=true
+perf.load.duration-seconds=60
+perf.load.target-rps=200
+perf.load.threads=32
+perf.load.mix=login:5,browse:55,create:20,approve:15,cancel:5
+perf.load.report=target/perf-report.json
 
 // User.java
 package com.inventory.model;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_last_modified", columnList = "lastModified"))
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -80,10 +256,18 @@ public class User {
     @Enumerated(EnumType.STRING)
     private Role role;
     
+    private LocalDateTime lastModified;
+    
     public enum Role {
         EMPLOYEE, ADMIN
     }
     
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        lastModified = LocalDateTime.now();
+    }
+    
     // Constructors
     public User() {}
     
@@ -109,6 +293,8 @@ public class User {
     
     public Role getRole() { return role; }
     public void setRole(Role role) { this.role = role; }
+    
+    public LocalDateTime getLastModified() { return lastModified; }
 }
 
 // Item.java
@@ -119,7 +305,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Min;
 
 @Entity
-@Table(name = "items")
+@Table(name = "items", indexes = @Index(name = "idx_items_name", columnList = "name"))
 public class Item {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -133,6 +319,9 @@ public class Item {
     @Min(0)
     private Integer quantity;
     
+    @Version
+    private Long version = 0L;
+    
     // Constructors
     public Item() {}
     
@@ -154,6 +343,9 @@ public class Item {
     
     public Integer getQuantity() { return quantity; }
     public void setQuantity(Integer quantity) { this.quantity = quantity; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
 
 // Request.java
@@ -165,17 +357,21 @@ import jakarta.validation.constraints.Min;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "requests")
+@Table(name = "requests", indexes = {
+    @Index(name = "idx_requests_date_id", columnList = "requestDate, id"),
+    @Index(name = "idx_requests_status_date_id", columnList = "status, requestDate, id")
+})
 public class Request {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "request_seq")
+    @SequenceGenerator(name = "request_seq", sequenceName = "request_seq", allocationSize = 50)
     private Long id;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "item_id", nullable = false)
     private Item item;
     
@@ -523,8 +719,10 @@ package com.inventory;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class InventoryManagementApplication {
     public static void main(String[] args) {
         SpringApplication.run(InventoryManagementApplication.class, args);
@@ -0,0 +1,278 @@
+// SqlRequestStats.java
+package com.inventory.config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+// Statement counters for the current thread's HTTP request (or test), filled in by SqlBudgetListener.
+// Tests pin a budget with SqlRequestStats.start() ... SqlRequestStats.assertMaxQueries(n).
+public class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long rows;
+    private long jdbcNanos;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+
+    public static SqlRequestStats start() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    public static SqlRequestStats stop() {
+        SqlRequestStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    public static void assertMaxQueries(int max) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats == null) {
+            throw new IllegalStateException("SqlRequestStats.start() was not called on this thread");
+        }
+        if (stats.statements > max) {
+            throw new AssertionError("Expected at most " + max + " SQL statements but " + stats.statements
+                    + " were executed: " + stats.executionsBySql);
+        }
+    }
+
+    void recordStatement(String sql, long nanos, long affectedRows) {
+        statements++;
+        jdbcNanos += nanos;
+        rows += affectedRows;
+        executionsBySql.merge(sql, 1, Integer::sum);
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    public long getStatements() { return statements; }
+    public long getRows() { return rows; }
+    public long getJdbcMillis() { return jdbcNanos / 1_000_000; }
+    public Map<String, Integer> getExecutionsBySql() { return Collections.unmodifiableMap(executionsBySql); }
+
+    public String toHeaderValue() {
+        return "statements=" + statements + ";rows=" + rows + ";jdbcMillis=" + getJdbcMillis();
+    }
+}
+
+// SqlBudgetListener.java
+package com.inventory.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.logging.DefaultQueryLogEntryCreator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// A JDBC batch counts as one statement so batched writes are never mistaken for N+1
+public class SqlBudgetListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetListener.class);
+
+    private final long slowQueryMillis;
+    private final DefaultQueryLogEntryCreator logEntryCreator = new DefaultQueryLogEntryCreator();
+
+    public SqlBudgetListener(long slowQueryMillis) {
+        this.slowQueryMillis = slowQueryMillis;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() >= slowQueryMillis) {
+            log.warn("Slow query ({} ms): {}", execInfo.getElapsedTime(),
+                    logEntryCreator.getLogEntry(execInfo, queryInfoList, false, true, false));
+        }
+
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats == null) {
+            return;
+        }
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        if (execInfo.isBatch()) {
+            sql = "[batch] " + sql;
+        }
+        stats.recordStatement(sql, TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime()), updatedRows(execInfo.getResult()));
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    // Counts rows read through ResultSet.next(); only registered when sql-budget.row-counting is on
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            SqlRequestStats stats = SqlRequestStats.current();
+            if (stats != null) {
+                stats.recordRow();
+            }
+        }
+    }
+
+    private static long updatedRows(Object result) {
+        if (result instanceof Integer) {
+            return Math.max(0, (Integer) result);
+        }
+        if (result instanceof int[]) {
+            long rows = 0;
+            for (int count : (int[]) result) {
+                rows += Math.max(0, count);
+            }
+            return rows;
+        }
+        return 0;
+    }
+}
+
+// SqlBudgetDataSourcePostProcessor.java
+package com.inventory.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// Wraps the pool in a datasource-proxy so every statement passes through SqlBudgetListener. Result sets are
+// proxied too only with sql-budget.row-counting, since that adds a listener call to every ResultSet.next().
+@Component
+public class SqlBudgetDataSourcePostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+    private long slowQueryMillis = 200;
+    private boolean rowCounting;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        slowQueryMillis = environment.getProperty("sql-budget.slow-query-ms", Long.class, 200L);
+        rowCounting = environment.getProperty("sql-budget.row-counting", Boolean.class, false);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        SqlBudgetListener listener = new SqlBudgetListener(slowQueryMillis);
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create((DataSource) bean)
+                .name(beanName)
+                .listener(listener);
+        if (rowCounting) {
+            builder.methodListener(listener).proxyResultSet();
+        }
+        return builder.build();
+    }
+}
+
+// SqlBudgetFilter.java
+package com.inventory.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Opens a SqlRequestStats scope per request and reports budget overruns and repeated statements
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+    @Value("${sql-budget.max-statements-per-request:50}")
+    private int maxStatements;
+
+    @Value("${sql-budget.n-plus-one-threshold:5}")
+    private int nPlusOneThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlRequestStats.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlRequestStats stats = SqlRequestStats.stop();
+            String endpoint = request.getMethod() + " " + request.getRequestURI();
+            stats.getExecutionsBySql().forEach((sql, executions) -> {
+                if (executions >= nPlusOneThreshold) {
+                    log.warn("Suspected N+1 in {}: statement executed {} times: {}", endpoint, executions, sql);
+                }
+            });
+            if (stats.getStatements() > maxStatements) {
+                log.warn("{} exceeded its SQL budget: {}", endpoint, stats.toHeaderValue());
+            }
+        }
+    }
+}
+
+// SqlStatsHeaderAdvice.java
+package com.inventory.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// Dev aid: the body is written after the handler's queries have run, so the header carries their totals
+@ControllerAdvice
+public class SqlStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-SQL-Stats";
+
+    @Value("${sql-budget.response-header:false}")
+    private boolean enabled;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            response.getHeaders().set(HEADER, stats.toHeaderValue());
+        }
+        return body;
+    }
+}
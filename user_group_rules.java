@@ -0,0 +1,333 @@
+// UserGroup.java
+package com.inventory.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+
+@Entity
+@Table(name = "user_groups")
+public class UserGroup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "group_id")
+    private Long id;
+
+    @NotBlank
+    @Column(name = "group_name", unique = true)
+    private String name;
+
+    private String description;
+
+    // Constructors
+    public UserGroup() {}
+
+    public UserGroup(String name, String description) {
+        this.name = name;
+        this.description = description;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+}
+
+// UserGroupRule.java
+package com.inventory.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "user_group_rules")
+public class UserGroupRule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rule_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id", nullable = false)
+    private UserGroup group;
+
+    @NotBlank
+    @Column(name = "rule_name")
+    private String ruleName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rule_type")
+    private RuleType ruleType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "trigger_type")
+    private TriggerType triggerType;
+
+    @Column(name = "rule_order")
+    private Integer ruleOrder = 0;
+
+    // Default connector for conditions that do not set their own
+    @Column(name = "logical_operator")
+    private String logicalOperator = "AND";
+
+    @Column(name = "is_active")
+    private Boolean active = true;
+
+    @Column(name = "created_by")
+    private String createdBy;
+
+    @Column(name = "created_date")
+    private LocalDateTime createdDate = LocalDateTime.now();
+
+    @OneToMany(mappedBy = "rule", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("conditionOrder ASC")
+    private List<RuleCondition> conditions = new ArrayList<>();
+
+    public enum RuleType {
+        CLASSIFICATION, ACTIVATION, DEACTIVATION
+    }
+
+    public enum TriggerType {
+        IMMEDIATE, ON_CHANGE, SCHEDULED
+    }
+
+    // Constructors
+    public UserGroupRule() {}
+
+    public UserGroupRule(UserGroup group, String ruleName, RuleType ruleType, TriggerType triggerType, Integer ruleOrder) {
+        this.group = group;
+        this.ruleName = ruleName;
+        this.ruleType = ruleType;
+        this.triggerType = triggerType;
+        this.ruleOrder = ruleOrder;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public UserGroup getGroup() { return group; }
+    public void setGroup(UserGroup group) { this.group = group; }
+
+    public String getRuleName() { return ruleName; }
+    public void setRuleName(String ruleName) { this.ruleName = ruleName; }
+
+    public RuleType getRuleType() { return ruleType; }
+    public void setRuleType(RuleType ruleType) { this.ruleType = ruleType; }
+
+    public TriggerType getTriggerType() { return triggerType; }
+    public void setTriggerType(TriggerType triggerType) { this.triggerType = triggerType; }
+
+    public Integer getRuleOrder() { return ruleOrder; }
+    public void setRuleOrder(Integer ruleOrder) { this.ruleOrder = ruleOrder; }
+
+    public String getLogicalOperator() { return logicalOperator; }
+    public void setLogicalOperator(String logicalOperator) { this.logicalOperator = logicalOperator; }
+
+    public Boolean getActive() { return active; }
+    public void setActive(Boolean active) { this.active = active; }
+
+    public String getCreatedBy() { return createdBy; }
+    public void setCreatedBy(String createdBy) { this.createdBy = createdBy; }
+
+    public LocalDateTime getCreatedDate() { return createdDate; }
+    public void setCreatedDate(LocalDateTime createdDate) { this.createdDate = createdDate; }
+
+    public List<RuleCondition> getConditions() { return conditions; }
+    public void setConditions(List<RuleCondition> conditions) { this.conditions = conditions; }
+}
+
+// RuleCondition.java
+package com.inventory.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+
+@Entity
+@Table(name = "rule_conditions")
+public class RuleCondition {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "condition_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "rule_id", nullable = false)
+    private UserGroupRule rule;
+
+    @NotBlank
+    @Column(name = "table_name")
+    private String tableName;
+
+    @NotBlank
+    @Column(name = "column_name")
+    private String columnName;
+
+    // One of =, !=, IN, IS_NULL, IS_NOT_NULL, CHANGED_FROM, CHANGED_TO
+    @NotBlank
+    private String operator;
+
+    // JSON array
+    @Column(name = "condition_values")
+    private String conditionValues;
+
+    // JSON array, used by CHANGED_FROM
+    @Column(name = "previous_values")
+    private String previousValues;
+
+    // Joins this condition to the previous one: AND or OR
+    @Column(name = "logical_connector")
+    private String logicalConnector;
+
+    @Column(name = "condition_order")
+    private Integer conditionOrder = 0;
+
+    @Column(name = "is_active")
+    private Boolean active = true;
+
+    // Constructors
+    public RuleCondition() {}
+
+    public RuleCondition(UserGroupRule rule, String tableName, String columnName, String operator,
+                         String conditionValues, String logicalConnector, Integer conditionOrder) {
+        this.rule = rule;
+        this.tableName = tableName;
+        this.columnName = columnName;
+        this.operator = operator;
+        this.conditionValues = conditionValues;
+        this.logicalConnector = logicalConnector;
+        this.conditionOrder = conditionOrder;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public UserGroupRule getRule() { return rule; }
+    public void setRule(UserGroupRule rule) { this.rule = rule; }
+
+    public String getTableName() { return tableName; }
+    public void setTableName(String tableName) { this.tableName = tableName; }
+
+    public String getColumnName() { return columnName; }
+    public void setColumnName(String columnName) { this.columnName = columnName; }
+
+    public String getOperator() { return operator; }
+    public void setOperator(String operator) { this.operator = operator; }
+
+    public String getConditionValues() { return conditionValues; }
+    public void setConditionValues(String conditionValues) { this.conditionValues = conditionValues; }
+
+    public String getPreviousValues() { return previousValues; }
+    public void setPreviousValues(String previousValues) { this.previousValues = previousValues; }
+
+    public String getLogicalConnector() { return logicalConnector; }
+    public void setLogicalConnector(String logicalConnector) { this.logicalConnector = logicalConnector; }
+
+    public Integer getConditionOrder() { return conditionOrder; }
+    public void setConditionOrder(Integer conditionOrder) { this.conditionOrder = conditionOrder; }
+
+    public Boolean getActive() { return active; }
+    public void setActive(Boolean active) { this.active = active; }
+}
+
+// UserGroupMember.java
+package com.inventory.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "user_group_members",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "group_id"}))
+public class UserGroupMember {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "member_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(name = "assigned_date")
+    private LocalDateTime assignedDate = LocalDateTime.now();
+
+    // Constructors
+    public UserGroupMember() {}
+
+    public UserGroupMember(Long userId, Long groupId) {
+        this.userId = userId;
+        this.groupId = groupId;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public Long getGroupId() { return groupId; }
+    public void setGroupId(Long groupId) { this.groupId = groupId; }
+
+    public LocalDateTime getAssignedDate() { return assignedDate; }
+    public void setAssignedDate(LocalDateTime assignedDate) { this.assignedDate = assignedDate; }
+}
+
+// UserGroupRepository.java
+package com.inventory.repository;
+
+import com.inventory.model.UserGroup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Optional;
+
+public interface UserGroupRepository extends JpaRepository<UserGroup, Long> {
+    Optional<UserGroup> findByName(String name);
+}
+
+// UserGroupRuleRepository.java
+package com.inventory.repository;
+
+import com.inventory.model.UserGroupRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.util.List;
+
+public interface UserGroupRuleRepository extends JpaRepository<UserGroupRule, Long> {
+    // Loads every active rule with its conditions and group id in one statement for compilation
+    @Query("SELECT DISTINCT r FROM UserGroupRule r LEFT JOIN FETCH r.conditions WHERE r.active = true")
+    List<UserGroupRule> findActiveWithConditions();
+}
+
+// RuleConditionRepository.java
+package com.inventory.repository;
+
+import com.inventory.model.RuleCondition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
+
+public interface RuleConditionRepository extends JpaRepository<RuleCondition, Long> {
+    List<RuleCondition> findByRuleIdOrderByConditionOrderAsc(Long ruleId);
+}
+
+// UserGroupMemberRepository.java
+package com.inventory.repository;
+
+import com.inventory.model.UserGroupMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
+import java.util.List;
+
+public interface UserGroupMemberRepository extends JpaRepository<UserGroupMember, Long> {
+    List<UserGroupMember> findByUserIdIn(Collection<Long> userIds);
+}